@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.benchmarks;
+
+import org.mule.tools.apikit.MainAppScaffolder;
+import org.mule.tools.apikit.model.ScaffoldingConfiguration;
+import org.mule.tools.apikit.model.ScaffoldingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end {@link MainAppScaffolder#run} over the synthetic APIs of {@link ScaffoldingState}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class MainAppScaffolderBenchmark {
+
+  @State(Scope.Thread)
+  public static class Run {
+
+    ScaffoldingConfiguration configuration;
+
+    @Setup(Level.Invocation)
+    public void setUp(ScaffoldingState state) throws Exception {
+      configuration = state.newConfiguration();
+    }
+  }
+
+  @Benchmark
+  public ScaffoldingResult run(ScaffoldingState state, Run run) {
+    ScaffoldingResult result = new MainAppScaffolder(state.context).run(run.configuration);
+    ScaffoldingState.verify(result);
+    return result;
+  }
+}
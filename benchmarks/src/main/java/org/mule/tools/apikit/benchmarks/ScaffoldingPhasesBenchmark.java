@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.benchmarks;
+
+import org.mule.tools.apikit.input.MuleConfigParser;
+import org.mule.tools.apikit.input.RAMLFilesParser;
+import org.mule.tools.apikit.model.APIFactory;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.output.GenerationModel;
+import org.mule.tools.apikit.output.GenerationStrategy;
+import org.mule.tools.apikit.output.MuleConfigGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each phase of {@link org.mule.tools.apikit.MainAppScaffolder#run} measured on its own, with the inputs of the phase prepared
+ * outside of the measurement.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ScaffoldingPhasesBenchmark {
+
+  private static final GenerationStrategy GENERATOR = new GenerationStrategy();
+
+  @State(Scope.Thread)
+  public static class Configs {
+
+    List<MuleConfig> muleConfigs;
+
+    @Setup(Level.Invocation)
+    public void setUp(ScaffoldingState state) throws Exception {
+      muleConfigs = state.newMuleConfigs();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Parsed {
+
+    List<MuleConfig> muleConfigs;
+    MuleConfigParser muleConfigParser;
+    RAMLFilesParser ramlFilesParser;
+    List<GenerationModel> generationModels;
+
+    @Setup(Level.Invocation)
+    public void setUp(ScaffoldingState state) throws Exception {
+      APIFactory apiFactory = new APIFactory(Collections.emptyList());
+      muleConfigs = state.newMuleConfigs();
+      muleConfigParser = new MuleConfigParser(apiFactory, state.api.getLocation(), muleConfigs);
+      ramlFilesParser = new RAMLFilesParser(apiFactory, state.api);
+      generationModels = GENERATOR.generate(ramlFilesParser.getEntries(), muleConfigParser.getIncludedApis(),
+                                            muleConfigParser.getEntries());
+    }
+  }
+
+  @Benchmark
+  public RAMLFilesParser apiTraversal(ScaffoldingState state) {
+    return new RAMLFilesParser(new APIFactory(Collections.emptyList()), state.api, state.parallelism);
+  }
+
+  @Benchmark
+  public MuleConfigParser muleConfigParsing(ScaffoldingState state, Configs configs) {
+    return new MuleConfigParser(new APIFactory(Collections.emptyList()), state.api.getLocation(), configs.muleConfigs,
+                                state.parallelism);
+  }
+
+  @Benchmark
+  public List<GenerationModel> generationStrategy(Parsed parsed) {
+    return GENERATOR.generate(parsed.ramlFilesParser.getEntries(), parsed.muleConfigParser.getIncludedApis(),
+                              parsed.muleConfigParser.getEntries());
+  }
+
+  @Benchmark
+  public List<MuleConfig> muleConfigGeneration(ScaffoldingState state, Parsed parsed) {
+    return new MuleConfigGenerator(parsed.ramlFilesParser.getApisAsList(), parsed.generationModels, parsed.muleConfigs,
+                                   state.context, true).generate();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserService;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.tools.apikit.MainAppScaffolder;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleConfigBuilder;
+import org.mule.tools.apikit.model.RuntimeEdition;
+import org.mule.tools.apikit.model.ScaffolderContext;
+import org.mule.tools.apikit.model.ScaffolderContextBuilder;
+import org.mule.tools.apikit.model.ScaffoldingConfiguration;
+import org.mule.tools.apikit.model.ScaffoldingResult;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed API specification and, optionally, the serialized Mule configurations of an application that already scaffolded half of
+ * its operations. Configurations are kept as bytes because scaffolding mutates them, so every run gets fresh ones.
+ */
+@State(Scope.Benchmark)
+public class ScaffoldingState {
+
+  @Param({"10", "500", "5000"})
+  public int operations;
+
+  @Param({"RAML", "OAS"})
+  public SyntheticApi.Format format;
+
+  @Param({"false", "true"})
+  public boolean existingConfigs;
+
+  @Param({"1"})
+  public int parallelism;
+
+  ScaffolderContext context;
+  ApiSpecification api;
+
+  private Path workingDirectory;
+  private final Map<String, byte[]> serializedConfigs = new LinkedHashMap<>();
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    workingDirectory = Files.createTempDirectory("scaffolder-benchmark");
+    context = ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).withParallelism(parallelism).build();
+
+    if (existingConfigs) {
+      ApiSpecification previousVersion = parse(SyntheticApi.write(workingDirectory, format, operations / 2));
+      ScaffoldingResult result = new MainAppScaffolder(context).run(ScaffoldingConfiguration.builder()
+          .withApi(previousVersion).build());
+      verify(result);
+      for (MuleConfig config : result.getGeneratedConfigs()) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        config.writeTo(content);
+        serializedConfigs.put(config.getName(), content.toByteArray());
+      }
+    }
+
+    api = parse(SyntheticApi.write(workingDirectory, format, operations));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    FileUtils.deleteQuietly(workingDirectory.toFile());
+  }
+
+  ScaffoldingConfiguration newConfiguration() throws Exception {
+    return ScaffoldingConfiguration.builder()
+        .withApi(api)
+        .withMuleConfigurations(newMuleConfigs())
+        .build();
+  }
+
+  List<MuleConfig> newMuleConfigs() throws Exception {
+    if (serializedConfigs.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<MuleConfig> muleConfigs = new ArrayList<>(serializedConfigs.size());
+    for (Map.Entry<String, byte[]> serializedConfig : serializedConfigs.entrySet()) {
+      MuleConfig muleConfig = MuleConfigBuilder.fromStream(new ByteArrayInputStream(serializedConfig.getValue()));
+      muleConfig.setName(serializedConfig.getKey());
+      muleConfigs.add(muleConfig);
+    }
+    return muleConfigs;
+  }
+
+  static void verify(ScaffoldingResult result) {
+    if (!result.isSuccess()) {
+      throw new IllegalStateException("Scaffolding failed: " + result.getErrors().get(0).getReason());
+    }
+  }
+
+  private static ApiSpecification parse(Path spec) {
+    ParseResult parseResult = new ParserService().parse(ApiReference.create(spec.toUri()));
+    if (!parseResult.success()) {
+      throw new IllegalStateException("Cannot parse synthetic API " + spec);
+    }
+    return parseResult.get();
+  }
+}
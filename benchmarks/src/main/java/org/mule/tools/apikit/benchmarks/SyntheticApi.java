@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.benchmarks;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes synthetic API specifications with an exact number of operations.
+ * <p>
+ * Operations are laid out four per resource: {@code GET} and {@code POST} on {@code /resourceN} and {@code GET} and {@code PUT}
+ * on {@code /resourceN/{id}}, every one of them with a JSON example so the DataWeave transformations are exercised as well.
+ */
+public final class SyntheticApi {
+
+  public enum Format {
+
+    RAML("api.raml"), OAS("api.json");
+
+    private final String fileName;
+
+    Format(String fileName) {
+      this.fileName = fileName;
+    }
+  }
+
+  private static final int OPERATIONS_PER_RESOURCE = 4;
+
+  private SyntheticApi() {}
+
+  public static Path write(Path directory, Format format, int operations) throws IOException {
+    Files.createDirectories(directory);
+    Path spec = directory.resolve(format.fileName);
+    String content = format == Format.RAML ? raml(operations) : oas(operations);
+    Files.write(spec, content.getBytes(StandardCharsets.UTF_8));
+    return spec;
+  }
+
+  private static String raml(int operations) {
+    StringBuilder raml = new StringBuilder("#%RAML 1.0\ntitle: Synthetic API\nversion: v1\n");
+    for (int resource = 0; resource * OPERATIONS_PER_RESOURCE < operations; resource++) {
+      int first = resource * OPERATIONS_PER_RESOURCE;
+      raml.append("/resource").append(resource).append(":\n");
+      appendRamlMethod(raml, "  ", "get", null, example(first), first, operations);
+      appendRamlMethod(raml, "  ", "post", example(first + 1), example(first + 1), first + 1, operations);
+      if (first + 2 < operations) {
+        raml.append("  /{id}:\n");
+        appendRamlMethod(raml, "    ", "get", null, example(first + 2), first + 2, operations);
+        appendRamlMethod(raml, "    ", "put", example(first + 3), example(first + 3), first + 3, operations);
+      }
+    }
+    return raml.toString();
+  }
+
+  private static void appendRamlMethod(StringBuilder raml, String indent, String method, String requestExample,
+                                       String responseExample, int operation, int operations) {
+    if (operation >= operations) {
+      return;
+    }
+    raml.append(indent).append(method).append(":\n");
+    if (requestExample != null) {
+      raml.append(indent).append("  body:\n");
+      appendRamlJsonExample(raml, indent + "    ", requestExample);
+    }
+    raml.append(indent).append("  responses:\n")
+        .append(indent).append("    200:\n")
+        .append(indent).append("      body:\n");
+    appendRamlJsonExample(raml, indent + "        ", responseExample);
+  }
+
+  private static void appendRamlJsonExample(StringBuilder raml, String indent, String example) {
+    raml.append(indent).append("application/json:\n")
+        .append(indent).append("  example: |\n")
+        .append(indent).append("    ").append(example).append("\n");
+  }
+
+  private static String oas(int operations) {
+    JsonObject paths = new JsonObject();
+    for (int resource = 0; resource * OPERATIONS_PER_RESOURCE < operations; resource++) {
+      int first = resource * OPERATIONS_PER_RESOURCE;
+      JsonObject collection = new JsonObject();
+      collection.add("get", oasOperation(first, false));
+      if (first + 1 < operations) {
+        collection.add("post", oasOperation(first + 1, true));
+      }
+      paths.add("/resource" + resource, collection);
+
+      if (first + 2 < operations) {
+        JsonObject item = new JsonObject();
+        item.add("parameters", oasIdParameter());
+        item.add("get", oasOperation(first + 2, false));
+        if (first + 3 < operations) {
+          item.add("put", oasOperation(first + 3, true));
+        }
+        paths.add("/resource" + resource + "/{id}", item);
+      }
+    }
+
+    JsonObject info = new JsonObject();
+    info.addProperty("title", "Synthetic API");
+    info.addProperty("version", "v1");
+
+    JsonObject oas = new JsonObject();
+    oas.addProperty("openapi", "3.0.0");
+    oas.add("info", info);
+    oas.add("paths", paths);
+    return new GsonBuilder().setPrettyPrinting().create().toJson(oas);
+  }
+
+  private static JsonObject oasOperation(int operation, boolean withRequestBody) {
+    JsonObject response = new JsonObject();
+    response.addProperty("description", "OK");
+    response.add("content", oasJsonContent(operation));
+    JsonObject responses = new JsonObject();
+    responses.add("200", response);
+
+    JsonObject method = new JsonObject();
+    method.addProperty("operationId", "operation" + operation);
+    if (withRequestBody) {
+      JsonObject requestBody = new JsonObject();
+      requestBody.add("content", oasJsonContent(operation));
+      method.add("requestBody", requestBody);
+    }
+    method.add("responses", responses);
+    return method;
+  }
+
+  private static JsonObject oasJsonContent(int operation) {
+    JsonObject example = new JsonObject();
+    example.addProperty("id", operation);
+    example.addProperty("name", "item" + operation);
+    JsonObject mediaType = new JsonObject();
+    mediaType.add("example", example);
+    JsonObject content = new JsonObject();
+    content.add("application/json", mediaType);
+    return content;
+  }
+
+  private static JsonArray oasIdParameter() {
+    JsonObject schema = new JsonObject();
+    schema.addProperty("type", "string");
+    JsonObject id = new JsonObject();
+    id.addProperty("name", "id");
+    id.addProperty("in", "path");
+    id.addProperty("required", true);
+    id.add("schema", schema);
+    JsonArray parameters = new JsonArray();
+    parameters.add(id);
+    return parameters;
+  }
+
+  private static String example(int operation) {
+    return "{\"id\": " + operation + ", \"name\": \"item" + operation + "\"}";
+  }
+}
@@ -6,11 +6,16 @@
  */
 package org.mule.tools.apikit;
 
+import org.mule.apikit.model.ApiSpecification;
 import org.mule.tools.apikit.input.MuleConfigParser;
+import org.mule.tools.apikit.input.OperationFingerprintIndex;
 import org.mule.tools.apikit.input.RAMLFilesParser;
+import org.mule.tools.apikit.misc.ScaffoldingMetricsRecorder;
 import org.mule.tools.apikit.model.APIFactory;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
+import org.mule.tools.apikit.model.ListenerPortAllocator;
 import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
 import org.mule.tools.apikit.model.Scaffolder;
 import org.mule.tools.apikit.model.ScaffolderContext;
 import org.mule.tools.apikit.model.ScaffoldingConfiguration;
@@ -21,8 +26,21 @@ import org.mule.tools.apikit.output.GenerationModel;
 import org.mule.tools.apikit.output.GenerationStrategy;
 import org.mule.tools.apikit.output.MuleConfigGenerator;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.API_PARSING;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.GENERATION_STRATEGY;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.MULE_CONFIG_GENERATION;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.MULE_CONFIG_PARSING;
 
 public final class MainAppScaffolder implements Scaffolder {
 
@@ -36,30 +54,101 @@ public final class MainAppScaffolder implements Scaffolder {
   @Override
   public ScaffoldingResult run(ScaffoldingConfiguration config) {
     ScaffolderResult.Builder scaffolderResultBuilder = ScaffolderResult.builder();
+    ScaffoldingMetricsRecorder metrics =
+        config.isMetricsEnabled() ? ScaffoldingMetricsRecorder.enabled() : ScaffoldingMetricsRecorder.disabled();
     try {
-      APIFactory apiFactory = new APIFactory(config.getDomain().getHttpListenerConfigs());
+      if (config.getApis().isEmpty()) {
+        throw new IllegalStateException("An API specification is required to scaffold");
+      }
       List<MuleConfig> muleConfigs = config.getMuleConfigurations();
+      List<String> apiLocations = config.getApis().stream().map(ApiSpecification::getLocation).collect(toList());
+
+      APIFactory apiFactory = newApiFactory(config);
+      MuleConfigParser muleConfigParser =
+          metrics.record(MULE_CONFIG_PARSING, () -> new MuleConfigParser(apiFactory, apiLocations, muleConfigs,
+                                                                         scaffolderContext.getParallelism()));
+      ApiOperations apiOperations = metrics.record(API_PARSING, () -> parseApis(apiFactory, config.getApis()));
 
-      MuleConfigParser muleConfigParser = new MuleConfigParser(apiFactory, config.getApi().getLocation(), muleConfigs);
-      RAMLFilesParser ramlFilesParser = new RAMLFilesParser(apiFactory, config.getApi());
+      Path fingerprintIndexFile = config.getFingerprintIndex();
+      OperationFingerprintIndex previousFingerprints = null;
+      OperationFingerprintIndex currentFingerprints = null;
+      if (fingerprintIndexFile != null) {
+        previousFingerprints = OperationFingerprintIndex.load(fingerprintIndexFile);
+        currentFingerprints = OperationFingerprintIndex.of(apiOperations.entries, muleConfigs);
+        if (currentFingerprints.hasSameMuleConfigs(previousFingerprints)
+            && currentFingerprints.hasSameOperations(previousFingerprints)) {
+          // Neither the API nor the configurations changed since the last run, there is nothing to scaffold
+          return scaffolderResultBuilder.build();
+        }
+      }
 
-      List<ApikitMainFlowContainer> includedApis = ramlFilesParser.getApisAsList();
-      List<GenerationModel> generationModels = GENERATOR.generate(ramlFilesParser.getEntries(),
-                                                                  muleConfigParser.getIncludedApis(),
-                                                                  muleConfigParser.getEntries());
+      // When the configurations are the ones the last run left, operations that did not change already have their flows
+      Map<ResourceActionMimeTypeTriplet, GenerationModel> apiEntries =
+          currentFingerprints != null && currentFingerprints.hasSameMuleConfigs(previousFingerprints)
+              ? getChangedEntries(apiOperations.entries, previousFingerprints)
+              : apiOperations.entries;
+
+      List<ApikitMainFlowContainer> includedApis = apiOperations.apis;
+      List<GenerationModel> generationModels = metrics.record(GENERATION_STRATEGY,
+                                                              () -> GENERATOR.generate(apiEntries,
+                                                                                       muleConfigParser.getIncludedApis(),
+                                                                                       muleConfigParser.getEntries()));
 
       MuleConfigGenerator muleConfigGenerator = new MuleConfigGenerator(includedApis,
                                                                         generationModels,
                                                                         muleConfigs,
-                                                                        scaffolderContext, config.isShowConsole());
+                                                                        scaffolderContext, config.isShowConsole(), metrics);
 
-      List<MuleConfig> generatedConfigs = muleConfigGenerator.generate();
+      List<MuleConfig> generatedConfigs = metrics.record(MULE_CONFIG_GENERATION, muleConfigGenerator::generate);
       scaffolderResultBuilder.withGeneratedConfigs(generatedConfigs);
+
+      if (currentFingerprints != null) {
+        Set<MuleConfig> scaffoldedConfigs = new LinkedHashSet<>(muleConfigs);
+        scaffoldedConfigs.addAll(generatedConfigs);
+        currentFingerprints.withMuleConfigs(scaffoldedConfigs).store(fingerprintIndexFile);
+      }
     } catch (Exception e) {
       List<ScaffoldingError> errors = Arrays.asList(new ScaffoldingError(e.getMessage()));
       scaffolderResultBuilder.withErrors(errors);
     } finally {
+      scaffolderResultBuilder.withMetrics(metrics.getMetrics());
       return scaffolderResultBuilder.build();
     }
   }
+
+  private APIFactory newApiFactory(ScaffoldingConfiguration config) {
+    return new APIFactory(config.getDomain().getHttpListenerConfigs(),
+                          new ListenerPortAllocator(scaffolderContext.getListenerPortRange()));
+  }
+
+  /**
+   * Collects the operations of every API. APIs are parsed one after the other as they share the factory, which allocates their
+   * HTTP listeners and ports.
+   */
+  private ApiOperations parseApis(APIFactory apiFactory, List<ApiSpecification> apis) {
+    ApiOperations apiOperations = new ApiOperations();
+    for (ApiSpecification api : apis) {
+      RAMLFilesParser ramlFilesParser = new RAMLFilesParser(apiFactory, api, scaffolderContext.getParallelism());
+      apiOperations.entries.putAll(ramlFilesParser.getEntries());
+      for (ApikitMainFlowContainer apiContainer : ramlFilesParser.getApisAsList()) {
+        if (!apiOperations.apis.contains(apiContainer)) {
+          apiOperations.apis.add(apiContainer);
+        }
+      }
+    }
+    return apiOperations;
+  }
+
+  private static Map<ResourceActionMimeTypeTriplet, GenerationModel> getChangedEntries(Map<ResourceActionMimeTypeTriplet, GenerationModel> entries,
+                                                                                       OperationFingerprintIndex previousFingerprints) {
+    return entries.entrySet().stream()
+        .filter(entry -> !previousFingerprints.isUnchanged(entry.getValue()))
+        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  private static class ApiOperations {
+
+    private final Map<ResourceActionMimeTypeTriplet, GenerationModel> entries = new HashMap<>();
+    private final List<ApikitMainFlowContainer> apis = new ArrayList<>();
+  }
 }
@@ -35,6 +35,7 @@ public final class MunitScaffolder implements Scaffolder {
   public static final String MULTIPLE_MAIN_FLOWS_ERROR_TEMPLATE = "There are multiple main flows referencing the config [%s]";
   public static final String NO_MAIN_FLOWS_ERROR_TEMPLATE = "No main flow for [%s] was found";
   public static final String NO_MULE_CONFIGS_ERROR = "No mule configs found";
+  public static final String MULTIPLE_APIS_ERROR = "MUnit suites can only be scaffolded for one API at a time";
 
   private MunitScaffolderContext scaffolderContext;
 
@@ -48,6 +49,8 @@ public final class MunitScaffolder implements Scaffolder {
 
     try {
       validateNonEmptyCollection(config.getMuleConfigurations(), NO_MULE_CONFIGS_ERROR);
+      // a run scaffolds a single suite, named by the context, which cannot hold the tests of several APIs
+      validateNoMoreThanOneElementInCollection(config.getApis(), MULTIPLE_APIS_ERROR);
 
       RAMLFilesParser ramlFilesParser = new RAMLFilesParser(new APIFactory(Collections.emptyList()), config.getApi());
       List<GenerationModel> generationModels = new ArrayList<>(ramlFilesParser.getEntries().values());
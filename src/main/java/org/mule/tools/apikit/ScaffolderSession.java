@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserService;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleConfigBuilder;
+import org.mule.tools.apikit.model.MuleDomain;
+import org.mule.tools.apikit.model.MuleDomainFactory;
+import org.mule.tools.apikit.model.ScaffolderContext;
+import org.mule.tools.apikit.model.ScaffoldingConfiguration;
+import org.mule.tools.apikit.model.ScaffoldingResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Long lived entry point for tools that scaffold the same application over and over, such as IDEs and build daemons. It keeps
+ * what was parsed for a file until the content of that file changes, so every run only parses what changed since the previous
+ * one.
+ * <p>
+ * What was parsed is recognized by the files it was parsed from: the file of a Mule configuration or domain, or the root file of
+ * an API and every local file it references. Those files are only hashed again when their size or modification time changed, so
+ * checking something that did not change does not read any file. References to remote resources are not tracked, call
+ * {@link #invalidate()} when they change. Domain artifacts are read without going through the cache of {@link MuleDomainFactory},
+ * the session being the only one to keep them. Mule configurations are handed out as copies, as scaffolding modifies them, while
+ * APIs and domains are only read by scaffolding and are shared between runs.
+ * <p>
+ * The API factory that allocates HTTP listeners and ports is not kept, every run starts from the given domain and configurations
+ * as a new scaffolder would. A session can be used from several threads.
+ */
+public final class ScaffolderSession {
+
+  private final MainAppScaffolder scaffolder;
+  private final Map<Path, Parsed<ApiSpecification>> apis = new ConcurrentHashMap<>();
+  private final Map<Path, Parsed<MuleConfig>> muleConfigs = new ConcurrentHashMap<>();
+  private final Map<Path, Parsed<MuleDomain>> domains = new ConcurrentHashMap<>();
+
+  public ScaffolderSession(ScaffolderContext scaffolderContext) {
+    this.scaffolder = new MainAppScaffolder(scaffolderContext);
+  }
+
+  /**
+   * @param config what to scaffold, usually built from what this session loaded
+   * @return the result of scaffolding, as {@link MainAppScaffolder#run(ScaffoldingConfiguration)} returns it
+   */
+  public ScaffoldingResult run(ScaffoldingConfiguration config) {
+    return scaffolder.run(config);
+  }
+
+  /**
+   * @param apiFile root file of the API specification
+   * @return the parsed API, parsed again only if a file the API was parsed from changed since the last call
+   * @throws IllegalStateException if the API cannot be parsed
+   */
+  public ApiSpecification getApi(Path apiFile) {
+    Path file = apiFile.toAbsolutePath().normalize();
+    return apis.compute(file, (key, parsed) -> parsed != null && parsed.isUpToDate() ? parsed : parseApi(key)).value;
+  }
+
+  /**
+   * @param muleConfigFile Mule configuration of the application
+   * @return a copy of the parsed configuration, named after the file, parsed again only if its content changed since the last
+   *         call
+   */
+  public MuleConfig getMuleConfig(Path muleConfigFile) {
+    Path file = muleConfigFile.toAbsolutePath().normalize();
+    MuleConfig muleConfig = muleConfigs.compute(file, (key, parsed) -> parsed != null && parsed.isUpToDate() ? parsed
+        : parseFile(key, ScaffolderSession::parseMuleConfig)).value;
+    return MuleConfigBuilder.copyOf(muleConfig);
+  }
+
+  /**
+   * @param muleConfigFiles Mule configurations of the application
+   * @return copies of the parsed configurations, in the same order
+   */
+  public List<MuleConfig> getMuleConfigs(List<Path> muleConfigFiles) {
+    return muleConfigFiles.stream().map(this::getMuleConfig).collect(toList());
+  }
+
+  /**
+   * @param domainFile either a deployable domain artifact, ending in {@code .jar}, or a domain configuration
+   * @return the parsed domain, parsed again only if its content changed since the last call
+   */
+  public MuleDomain getDomain(Path domainFile) {
+    Path file = domainFile.toAbsolutePath().normalize();
+    return domains.compute(file, (key, parsed) -> parsed != null && parsed.isUpToDate() ? parsed
+        : parseFile(key, ScaffolderSession::parseDomain)).value;
+  }
+
+  /**
+   * Forgets everything parsed so far.
+   */
+  public void invalidate() {
+    apis.clear();
+    muleConfigs.clear();
+    domains.clear();
+  }
+
+  private static Parsed<ApiSpecification> parseApi(Path apiFile) {
+    // the root file is looked at before parsing, so that a change made while parsing is seen by the next call
+    SourceFile rootFile = SourceFile.of(apiFile);
+    ParseResult parseResult = new ParserService().parse(ApiReference.create(apiFile.toUri()));
+    if (!parseResult.success()) {
+      throw new IllegalStateException("Cannot parse API " + apiFile);
+    }
+    ApiSpecification api = parseResult.get();
+    Set<Path> referencedFiles = new LinkedHashSet<>();
+    if (api.getAllReferences() != null) {
+      for (String reference : api.getAllReferences()) {
+        Path referencedFile = toLocalFile(apiFile, reference);
+        if (referencedFile != null && !referencedFile.equals(apiFile)) {
+          referencedFiles.add(referencedFile);
+        }
+      }
+    }
+    List<SourceFile> sourceFiles = new ArrayList<>();
+    sourceFiles.add(rootFile);
+    referencedFiles.forEach(referencedFile -> sourceFiles.add(SourceFile.of(referencedFile)));
+    return new Parsed<>(api, sourceFiles);
+  }
+
+  /**
+   * Parses what is read from a single file, the content being hashed and parsed from the same read.
+   */
+  private static <T> Parsed<T> parseFile(Path file, BiFunction<Path, byte[], T> parser) {
+    // attributes are read first, a change made while reading makes the next check hash the file again
+    BasicFileAttributes attributes = attributesOf(file);
+    byte[] content = read(file);
+    T value = parser.apply(file, content);
+    return new Parsed<>(value, singletonList(new SourceFile(file, attributes, Hashing.sha256().hashBytes(content))));
+  }
+
+  /**
+   * @param apiFile root file of the API
+   * @param reference reference of the API, either a URI or a path relative to the root file
+   * @return the referenced file, or null if the reference is not a local file
+   */
+  private static Path toLocalFile(Path apiFile, String reference) {
+    try {
+      URI uri = new URI(reference);
+      if ("file".equals(uri.getScheme())) {
+        return Paths.get(uri).toAbsolutePath().normalize();
+      }
+      // a single letter scheme is the drive of a Windows path
+      if (uri.getScheme() != null && uri.getScheme().length() > 1) {
+        return null;
+      }
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      // not a URI, such as a Windows path
+    }
+    try {
+      Path file = apiFile.getParent().resolve(reference).normalize();
+      return Files.isRegularFile(file) ? file : null;
+    } catch (InvalidPathException e) {
+      return null;
+    }
+  }
+
+  private static MuleConfig parseMuleConfig(Path muleConfigFile, byte[] content) {
+    try {
+      MuleConfig muleConfig = MuleConfigBuilder.fromStream(new ByteArrayInputStream(content));
+      muleConfig.setName(muleConfigFile.getFileName().toString());
+      return muleConfig;
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot read Mule configuration " + muleConfigFile, e);
+    }
+  }
+
+  private static MuleDomain parseDomain(Path domainFile, byte[] content) {
+    try {
+      return domainFile.getFileName().toString().endsWith(".jar") ? MuleDomainFactory.readDeployableArtifact(domainFile.toFile())
+          : MuleDomain.fromInputStream(new ByteArrayInputStream(content));
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot read Mule domain " + domainFile, e);
+    }
+  }
+
+  private static BasicFileAttributes attributesOf(Path file) {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read " + file, e);
+    }
+  }
+
+  private static byte[] read(Path file) {
+    try {
+      return Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read " + file, e);
+    }
+  }
+
+  /**
+   * What was parsed, together with the files it was parsed from.
+   */
+  private static class Parsed<T> {
+
+    private final T value;
+    private final List<SourceFile> sourceFiles;
+
+    Parsed(T value, List<SourceFile> sourceFiles) {
+      this.value = value;
+      this.sourceFiles = sourceFiles;
+    }
+
+    boolean isUpToDate() {
+      return sourceFiles.stream().allMatch(SourceFile::isUnchanged);
+    }
+  }
+
+  /**
+   * A file as it was when something was parsed from it. Its content is only hashed again if its size or modification time
+   * changed, so that files that are merely touched are not taken as changed.
+   */
+  private static class SourceFile {
+
+    private final Path path;
+    private final HashCode hash;
+    private final long size;
+    private FileTime lastModifiedTime;
+
+    SourceFile(Path path, BasicFileAttributes attributes, HashCode hash) {
+      this.path = path;
+      this.size = attributes.size();
+      this.lastModifiedTime = attributes.lastModifiedTime();
+      this.hash = hash;
+    }
+
+    static SourceFile of(Path path) {
+      BasicFileAttributes attributes = attributesOf(path);
+      // attributes are read first, a change made while hashing makes the next check hash the file again
+      return new SourceFile(path, attributes, Hashing.sha256().hashBytes(read(path)));
+    }
+
+    /**
+     * Only called while the entry it belongs to is being computed, so it is never called concurrently.
+     */
+    boolean isUnchanged() {
+      BasicFileAttributes attributes = readAttributes(path);
+      if (attributes == null || attributes.size() != size) {
+        return false;
+      }
+      if (attributes.lastModifiedTime().equals(lastModifiedTime)) {
+        return true;
+      }
+      if (!Hashing.sha256().hashBytes(read(path)).equals(hash)) {
+        return false;
+      }
+      lastModifiedTime = attributes.lastModifiedTime();
+      return true;
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+      try {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+  }
+}
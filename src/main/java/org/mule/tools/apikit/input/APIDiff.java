@@ -7,8 +7,9 @@
 package org.mule.tools.apikit.input;
 
 import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTripletIndex;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public class APIDiff {
@@ -25,9 +26,7 @@ public class APIDiff {
 
   private Set<ResourceActionMimeTypeTriplet> computeDifference(Set<ResourceActionMimeTypeTriplet> ramlEntries,
                                                                Set<ResourceActionMimeTypeTriplet> flowEntries) {
-    Set<ResourceActionMimeTypeTriplet> differenceToAdd = new HashSet<ResourceActionMimeTypeTriplet>(ramlEntries);
-    differenceToAdd.removeAll(flowEntries);
-    return differenceToAdd;
+    return new LinkedHashSet<>(ResourceActionMimeTypeTripletIndex.of(flowEntries).getMissing(ramlEntries));
   }
 
 }
@@ -7,10 +7,11 @@
 package org.mule.tools.apikit.input;
 
 import org.mule.apikit.common.RamlUtils;
-import org.mule.tools.apikit.misc.FlowNameUtils;
+import org.mule.tools.apikit.misc.FlowNameTokenizer;
 
 import java.util.Collection;
-import java.util.regex.Matcher;
+
+import static org.apache.commons.lang.StringUtils.isEmpty;
 
 public class APIKitFlow {
 
@@ -44,18 +45,33 @@ public class APIKitFlow {
   }
 
   public static APIKitFlow buildFromName(String name, Collection<String> existingConfigs) throws IllegalArgumentException {
-    Matcher matcher = FlowNameUtils.getMatcher(name);
-    String action = FlowNameUtils.getAction(matcher);
+    if (isEmpty(name)) {
+      throw new IllegalArgumentException("Flow name cannot be null or empty");
+    }
+    FlowNameTokenizer tokenizer = new FlowNameTokenizer();
+    if (!tokenizer.tokenize(name)) {
+      throw new IllegalArgumentException("Invalid apikit flow name, expected format is: action:resource[:config]");
+    }
+    APIKitFlow flow = buildFromTokens(tokenizer, existingConfigs);
+    if (flow == null) {
+      throw new IllegalArgumentException(tokenizer.getAction() + " is not a valid action type");
+    }
+    return flow;
+  }
 
+  /**
+   * Builds the flow of an already tokenized name, reusing the tokenizer for many names.
+   *
+   * @param tokenizer tokenizer that accepted the flow name
+   * @param existingConfigs names of the APIKit configurations of the application
+   * @return the flow, or null if the action of the name is not a valid one
+   */
+  public static APIKitFlow buildFromTokens(FlowNameTokenizer tokenizer, Collection<String> existingConfigs) {
+    String action = tokenizer.getAction();
     if (!RamlUtils.isValidAction(action)) {
-      throw new IllegalArgumentException(action + " is not a valid action type");
+      return null;
     }
-
-    String resource = FlowNameUtils.getResource(matcher);
-
-    String mimeType = FlowNameUtils.getMimeType(matcher, existingConfigs).orElse(null);
-    String config = FlowNameUtils.getConfig(matcher, existingConfigs).orElse(null);
-
-    return new APIKitFlow(action, resource, mimeType, config);
+    return new APIKitFlow(action, tokenizer.getResource(), tokenizer.getMimeType(existingConfigs),
+                          tokenizer.getConfig(existingConfigs));
   }
 }
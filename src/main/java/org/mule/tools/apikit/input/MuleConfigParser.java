@@ -8,14 +8,19 @@ package org.mule.tools.apikit.input;
 
 import org.mule.tools.apikit.input.parsers.APIKitFlowsParser;
 import org.mule.tools.apikit.input.parsers.APIKitRoutersParser;
+import org.mule.tools.apikit.input.parsers.MuleConfigDocumentWalker;
+import org.mule.tools.apikit.input.parsers.MuleConfigElementExtractor;
+import org.mule.tools.apikit.misc.ParallelUtils;
 import org.mule.tools.apikit.model.APIKitConfig;
 import org.mule.tools.apikit.model.APIFactory;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.model.MuleConfig;
 import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -25,41 +30,92 @@ import java.util.Set;
 public class MuleConfigParser {
 
   private Set<ResourceActionMimeTypeTriplet> entries = new HashSet<>();
-  private Map<String, ApikitMainFlowContainer> includedApis = new HashMap<>();
+  private final Map<String, ApikitMainFlowContainer> includedApis = new HashMap<>();
   private List<APIKitConfig> apikitConfigs = new LinkedList<>();
   private final APIFactory apiFactory;
+  private final APIKitFlowsParser flowsParser = new APIKitFlowsParser(includedApis);
+  private final Map<MuleConfig, MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>>> flowExtractors =
+      new IdentityHashMap<>();
 
   public MuleConfigParser(APIFactory apiFactory, String apiLocation, List<MuleConfig> muleConfigs) {
+    this(apiFactory, apiLocation, muleConfigs, 1);
+  }
+
+  /**
+   * Parses the configurations, several of them at the same time when the parallelism allows it. Only the creation of the APIs
+   * referenced by routers is done one configuration after the other, in the given order, as it depends on the configurations
+   * parsed before.
+   *
+   * @param apiFactory factory of the APIs found in the configurations
+   * @param apiLocation location of the API being scaffolded
+   * @param muleConfigs configurations of the application
+   * @param parallelism maximum number of configurations parsed at the same time
+   */
+  public MuleConfigParser(APIFactory apiFactory, String apiLocation, List<MuleConfig> muleConfigs, int parallelism) {
+    this(apiFactory, Collections.singletonList(apiLocation), muleConfigs, parallelism);
+  }
+
+  /**
+   * Parses the configurations once for all the APIs being scaffolded.
+   *
+   * @param apiLocations locations of the APIs being scaffolded
+   * @see #MuleConfigParser(APIFactory, String, List, int)
+   */
+  public MuleConfigParser(APIFactory apiFactory, List<String> apiLocations, List<MuleConfig> muleConfigs, int parallelism) {
     this.apiFactory = apiFactory;
     for (MuleConfig config : muleConfigs) {
       parseConfig(config);
     }
-    for (MuleConfig config : muleConfigs) {
-      parseApis(config, apiLocation);
+    List<ConfigExtractors> extractors =
+        ParallelUtils.map(muleConfigs, config -> walk(config, apiLocations), parallelism);
+    for (int i = 0; i < muleConfigs.size(); i++) {
+      includeApis(muleConfigs.get(i), extractors.get(i));
     }
-    parseFlows(muleConfigs);
+    ParallelUtils.map(muleConfigs, this::getFlowEntries, parallelism).forEach(entries::addAll);
   }
 
   void parseConfig(MuleConfig config) {
     apikitConfigs.addAll(config.getApikitConfigs());
-    config.getHttpListenerConfigs().forEach(httpConfig -> {
-      if (!apiFactory.getHttpListenerConfigs().contains(httpConfig)) {
-        apiFactory.getHttpListenerConfigs().add(httpConfig);
-      }
-    });
+    config.getHttpListenerConfigs().forEach(apiFactory::addHttpListenerConfig);
   }
 
   void parseApis(MuleConfig muleConfig, String apiFilePath) {
-    includedApis.putAll(new APIKitRoutersParser(apikitConfigs, apiFactory, apiFilePath, muleConfig)
-        .parse(muleConfig.getContentAsDocument()));
+    includeApis(muleConfig, walk(muleConfig, Collections.singletonList(apiFilePath)));
   }
 
   void parseFlows(List<MuleConfig> configs) {
     for (MuleConfig config : configs) {
-      entries.addAll(new APIKitFlowsParser(includedApis).parse(config.getContentAsDocument()));
+      entries.addAll(getFlowEntries(config));
+    }
+  }
+
+  /**
+   * Collects the routers and flows of a configuration, which does not depend on any other configuration.
+   */
+  private ConfigExtractors walk(MuleConfig muleConfig, List<String> apiFilePaths) {
+    ConfigExtractors extractors =
+        new ConfigExtractors(new APIKitRoutersParser(apikitConfigs, apiFactory, apiFilePaths, muleConfig).newExtractor(),
+                             flowsParser.newExtractor());
+    MuleConfigDocumentWalker.walk(muleConfig.getContentOutline(), extractors.routers, extractors.flows);
+    return extractors;
+  }
+
+  private void includeApis(MuleConfig muleConfig, ConfigExtractors extractors) {
+    includedApis.putAll(extractors.routers.getResult());
+    // flows may belong to APIs of configurations not parsed yet, they are resolved once every API is included
+    synchronized (flowExtractors) {
+      flowExtractors.put(muleConfig, extractors.flows);
     }
   }
 
+  private Set<ResourceActionMimeTypeTriplet> getFlowEntries(MuleConfig config) {
+    MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>> flows;
+    synchronized (flowExtractors) {
+      flows = flowExtractors.remove(config);
+    }
+    return flows != null ? flows.getResult() : flowsParser.parse(config.getContentOutline());
+  }
+
   List<APIKitConfig> getApikitConfigs() {
     return apikitConfigs;
   }
@@ -71,4 +127,16 @@ public class MuleConfigParser {
   public Set<ApikitMainFlowContainer> getIncludedApis() {
     return new HashSet<>(includedApis.values());
   }
+
+  private static class ConfigExtractors {
+
+    private final MuleConfigElementExtractor<Map<String, ApikitMainFlowContainer>> routers;
+    private final MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>> flows;
+
+    ConfigExtractors(MuleConfigElementExtractor<Map<String, ApikitMainFlowContainer>> routers,
+                     MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>> flows) {
+      this.routers = routers;
+      this.flows = flows;
+    }
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
+import org.mule.tools.apikit.output.GenerationModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Fingerprints of the operations of an API and of the Mule configurations they were scaffolded into, as left by the last
+ * successful scaffolding run.
+ * <p>
+ * Operations are identified by API, verb, resolved URI and mime type, which also determine the name of their flow, and their
+ * fingerprint covers the rest of what a generated flow depends on: URI parameters and example. Mule configurations are
+ * fingerprinted as a whole, so any edit made to them after the last run, such as removing a generated flow, is detected.
+ */
+public class OperationFingerprintIndex {
+
+  private static final String MULE_CONFIGS_KEY = "mule.configs";
+  private static final String SEPARATOR = " ";
+
+  private final Map<String, String> operations;
+  private final String muleConfigsFingerprint;
+
+  public OperationFingerprintIndex(Map<String, String> operations, String muleConfigsFingerprint) {
+    this.operations = operations;
+    this.muleConfigsFingerprint = muleConfigsFingerprint;
+  }
+
+  /**
+   * @param entries operations of the API
+   * @param muleConfigs Mule configurations of the application
+   * @return the fingerprints of the given operations and configurations
+   */
+  public static OperationFingerprintIndex of(Map<ResourceActionMimeTypeTriplet, GenerationModel> entries,
+                                             Collection<MuleConfig> muleConfigs) {
+    Map<String, String> operations = new HashMap<>();
+    for (GenerationModel generationModel : entries.values()) {
+      operations.put(key(generationModel), fingerprint(generationModel));
+    }
+    return new OperationFingerprintIndex(operations, fingerprint(muleConfigs));
+  }
+
+  /**
+   * Reads an index stored by {@link #store(Path)}.
+   *
+   * @param file index file
+   * @return the stored index, or an empty one if the file does not exist or cannot be read
+   */
+  public static OperationFingerprintIndex load(Path file) {
+    Properties properties = new Properties();
+    if (Files.isRegularFile(file)) {
+      try (InputStream inputStream = Files.newInputStream(file)) {
+        properties.load(inputStream);
+      } catch (IOException | IllegalArgumentException e) {
+        properties.clear();
+      }
+    }
+    Map<String, String> operations = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      if (!MULE_CONFIGS_KEY.equals(key)) {
+        operations.put(key, properties.getProperty(key));
+      }
+    }
+    return new OperationFingerprintIndex(operations, properties.getProperty(MULE_CONFIGS_KEY));
+  }
+
+  /**
+   * Writes the index, replacing the previous one atomically.
+   *
+   * @param file index file
+   */
+  public void store(Path file) {
+    Properties properties = new Properties();
+    properties.putAll(new TreeMap<>(operations));
+    if (muleConfigsFingerprint != null) {
+      properties.setProperty(MULE_CONFIGS_KEY, muleConfigsFingerprint);
+    }
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+        properties.store(outputStream, "APIKit scaffolder operation fingerprints");
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot store operation fingerprints in " + file, e);
+    }
+  }
+
+  /**
+   * @return whether the Mule configurations are the ones left by the run that produced the other index
+   */
+  public boolean hasSameMuleConfigs(OperationFingerprintIndex other) {
+    return muleConfigsFingerprint != null && muleConfigsFingerprint.equals(other.muleConfigsFingerprint);
+  }
+
+  /**
+   * @return whether both indexes have the same operations with the same fingerprints
+   */
+  public boolean hasSameOperations(OperationFingerprintIndex other) {
+    return operations.equals(other.operations);
+  }
+
+  /**
+   * @param generationModel operation of the API
+   * @return whether the operation is in this index with the same fingerprint
+   */
+  public boolean isUnchanged(GenerationModel generationModel) {
+    return Objects.equals(operations.get(key(generationModel)), fingerprint(generationModel));
+  }
+
+  /**
+   * @param muleConfigs Mule configurations of the application
+   * @return a copy of this index with the fingerprint of the given Mule configurations
+   */
+  public OperationFingerprintIndex withMuleConfigs(Collection<MuleConfig> muleConfigs) {
+    return new OperationFingerprintIndex(operations, fingerprint(muleConfigs));
+  }
+
+  private static String key(GenerationModel generationModel) {
+    return generationModel.getApi().getApiFilePath() + SEPARATOR + generationModel.getVerb() + SEPARATOR
+        + generationModel.getResource().getResolvedUri(generationModel.getVersion())
+        + SEPARATOR + generationModel.getMimeType();
+  }
+
+  private static String fingerprint(GenerationModel generationModel) {
+    return Hashing.sha256().newHasher()
+        .putString(String.join(SEPARATOR, generationModel.getUriParameters()), StandardCharsets.UTF_8).putByte((byte) 0)
+        .putString(Objects.toString(generationModel.getExampleWrapper()), StandardCharsets.UTF_8)
+        .hash().toString();
+  }
+
+  private static String fingerprint(Collection<MuleConfig> muleConfigs) {
+    List<MuleConfig> sortedMuleConfigs = new ArrayList<>(muleConfigs);
+    sortedMuleConfigs.sort(comparing(muleConfig -> Objects.toString(muleConfig.getName(), "")));
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (OutputStream outputStream = Funnels.asOutputStream(hasher)) {
+      for (MuleConfig muleConfig : sortedMuleConfigs) {
+        hasher.putString(Objects.toString(muleConfig.getName(), ""), StandardCharsets.UTF_8).putByte((byte) 0);
+        // configurations nobody modified are hashed as they were read, so they are not loaded just to be fingerprinted
+        muleConfig.writeSourceTo(outputStream);
+        hasher.putByte((byte) 0);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return hasher.hash().toString();
+  }
+}
@@ -11,6 +11,9 @@ import static java.lang.String.format;
 import static org.mule.runtime.api.metadata.MediaType.parse;
 import static org.mule.tools.apikit.model.ApikitMainFlowContainer.DEFAULT_BASE_URI;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +26,7 @@ import org.mule.apikit.model.ApiSpecification;
 import org.mule.apikit.model.Resource;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.tools.apikit.misc.APIKitTools;
+import org.mule.tools.apikit.misc.ParallelUtils;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.model.APIFactory;
 import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
@@ -36,8 +40,15 @@ public class RAMLFilesParser {
   private Map<ResourceActionMimeTypeTriplet, GenerationModel> entries = new HashMap<>();
 
   public RAMLFilesParser(APIFactory apiFactory, ApiSpecification apiSpec) {
+    this(apiFactory, apiSpec, 1);
+  }
+
+  /**
+   * @param parallelism maximum number of resources whose operations are collected at the same time
+   */
+  public RAMLFilesParser(APIFactory apiFactory, ApiSpecification apiSpec, int parallelism) {
     this.apiFactory = apiFactory;
-    collectResources(apiSpec.getLocation(), apiSpec.getResources(), DEFAULT_BASE_URI, apiSpec.getVersion());
+    collectResources(apiSpec.getLocation(), apiSpec.getResources(), DEFAULT_BASE_URI, apiSpec.getVersion(), parallelism);
   }
 
   public List<ApikitMainFlowContainer> getApisAsList() {
@@ -48,32 +59,64 @@ public class RAMLFilesParser {
     return entries;
   }
 
-  private void collectResources(String filePath, Map<String, Resource> resourceMap, String baseUri, String version) {
+  private void collectResources(String filePath, Map<String, Resource> resourceMap, String baseUri, String version,
+                                int parallelism) {
     ApikitMainFlowContainer api = apiFactory.createAPIBinding(filePath, baseUri, APIKitTools.getPathFromUri(baseUri, false), null,
                                                               null, null);
     apis.add(api);
-    for (Resource resource : resourceMap.values()) {
-      for (Action action : resource.getActions().values()) {
-
-        Map<String, MimeType> mimeTypes = action.getBody();
-        if (mimeTypes != null && !mimeTypes.isEmpty()) {
-          for (MimeType mimeType : mimeTypes.values()) {
-            addResource(api, resource, action, mimeType.getType(), version);
-          }
-        } else {
-          addResource(api, resource, action, null, version);
-        }
-      }
+    String completePath = APIKitTools.getCompletePathFromBasePathAndPath(api.getHttpListenerConfig().getBasePath(),
+                                                                         api.getPath());
 
-      collectResources(filePath, resource.getResources(), baseUri, version);
+    List<Map<ResourceActionMimeTypeTriplet, GenerationModel>> resourceEntries =
+        ParallelUtils.map(flatten(resourceMap), resource -> collectActions(api, completePath, resource, version), parallelism);
+    for (Map<ResourceActionMimeTypeTriplet, GenerationModel> actionEntries : resourceEntries) {
+      entries.putAll(actionEntries);
     }
   }
 
-  private void addResource(ApikitMainFlowContainer api, Resource resource, Action action,
-                           String mimeType, String version) {
+  /**
+   * @return the resources of the tree, parents before their children, in the order the tree declares them
+   */
+  private static List<Resource> flatten(Map<String, Resource> resourceMap) {
+    List<Resource> resources = new ArrayList<>();
+    Deque<Resource> pending = new ArrayDeque<>();
+    pushAll(pending, resourceMap);
+    while (!pending.isEmpty()) {
+      Resource resource = pending.pop();
+      resources.add(resource);
+      pushAll(pending, resource.getResources());
+    }
+    return resources;
+  }
+
+  private static void pushAll(Deque<Resource> pending, Map<String, Resource> resourceMap) {
+    List<Resource> resources = new ArrayList<>(resourceMap.values());
+    for (int i = resources.size() - 1; i >= 0; i--) {
+      pending.push(resources.get(i));
+    }
+  }
+
+  private static Map<ResourceActionMimeTypeTriplet, GenerationModel> collectActions(ApikitMainFlowContainer api,
+                                                                                    String completePath, Resource resource,
+                                                                                    String version) {
+    Map<ResourceActionMimeTypeTriplet, GenerationModel> actionEntries = new HashMap<>();
+    for (Action action : resource.getActions().values()) {
+
+      Map<String, MimeType> mimeTypes = action.getBody();
+      if (mimeTypes != null && !mimeTypes.isEmpty()) {
+        for (MimeType mimeType : mimeTypes.values()) {
+          addResource(actionEntries, api, completePath, resource, action, mimeType.getType(), version);
+        }
+      } else {
+        addResource(actionEntries, api, completePath, resource, action, null, version);
+      }
+    }
+    return actionEntries;
+  }
 
-    String completePath = APIKitTools
-        .getCompletePathFromBasePathAndPath(api.getHttpListenerConfig().getBasePath(), api.getPath());
+  private static void addResource(Map<ResourceActionMimeTypeTriplet, GenerationModel> actionEntries,
+                                  ApikitMainFlowContainer api, String completePath, Resource resource, Action action,
+                                  String mimeType, String version) {
 
     String mimeTypeWithoutAttributes = mimeType != null ? getMediaType(mimeType) : null;
 
@@ -81,11 +124,11 @@ public class RAMLFilesParser {
         new ResourceActionMimeTypeTriplet(api, completePath + resource.getResolvedUri(version),
                                           action.getType().toString(),
                                           mimeTypeWithoutAttributes);
-    entries.put(resourceActionTriplet, new GenerationModel(api, version, resource, action,
-                                                           mimeTypeWithoutAttributes));
+    actionEntries.put(resourceActionTriplet, new GenerationModel(api, version, resource, action,
+                                                                 mimeTypeWithoutAttributes));
   }
 
-  private String getMediaType(String mediaType) {
+  private static String getMediaType(String mediaType) {
     MediaType mType = parse(mediaType);
     return format("%s/%s", mType.getPrimaryType(), mType.getSubType());
   }
@@ -6,27 +6,24 @@
  */
 package org.mule.tools.apikit.input.parsers;
 
-import org.jdom2.Document;
 import org.jdom2.Element;
-import org.jdom2.xpath.XPathExpression;
 import org.mule.tools.apikit.input.APIKitFlow;
 import org.mule.tools.apikit.misc.APIKitTools;
+import org.mule.tools.apikit.misc.FlowNameTokenizer;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static java.lang.String.format;
-import static org.jdom2.filter.Filters.element;
-import static org.jdom2.xpath.XPathFactory.instance;
-import static org.mule.tools.apikit.input.APIKitFlow.buildFromName;
+import static org.mule.tools.apikit.input.APIKitFlow.buildFromTokens;
 import static org.mule.tools.apikit.misc.FlowNameUtils.decode;
-import static org.mule.tools.apikit.output.MuleConfigGenerator.XMLNS_NAMESPACE;
 
 public class APIKitFlowsParser implements MuleConfigFileParser<Set<ResourceActionMimeTypeTriplet>> {
 
@@ -39,15 +36,41 @@ public class APIKitFlowsParser implements MuleConfigFileParser<Set<ResourceActio
   }
 
   @Override
-  public Set<ResourceActionMimeTypeTriplet> parse(Document document) {
+  public MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>> newExtractor() {
+    return new MuleConfigElementExtractor<Set<ResourceActionMimeTypeTriplet>>() {
+
+      private final List<Element> flowElements = new ArrayList<>();
+
+      @Override
+      public void visit(Element element, int depth) {
+        if (MuleConfigElement.FLOW.matches(element)) {
+          flowElements.add(element);
+        }
+      }
+
+      @Override
+      public Set<ResourceActionMimeTypeTriplet> getResult() {
+        return getEntries(flowElements);
+      }
+    };
+  }
+
+  /**
+   * Resolves the operations of flows following APIKit naming convention. As APIs may be defined in any configuration, this must
+   * only be called once every API is included.
+   */
+  private Set<ResourceActionMimeTypeTriplet> getEntries(List<Element> elements) {
     Set<ResourceActionMimeTypeTriplet> entries = new HashSet<>();
-    XPathExpression<Element> xp = instance().compile("//*/*[local-name()='flow']",
-                                                     element(XMLNS_NAMESPACE.getNamespace()));
-    List<Element> elements = xp.evaluate(document);
+    FlowNameTokenizer tokenizer = new FlowNameTokenizer();
     for (Element element : elements) {
       String name = decode(element.getAttributeValue("name"));
       try {
-        APIKitFlow flow = buildFromName(name, includedApis.keySet());
+        // Most flows of large applications are not APIKit flows, they are rejected without building anything
+        APIKitFlow flow = tokenizer.tokenize(name) ? buildFromTokens(tokenizer, includedApis.keySet()) : null;
+        if (flow == null) {
+          logNotApikitFlow(name);
+          continue;
+        }
         ApikitMainFlowContainer api = includedApis.get(flow.getConfigRef());
 
         if (api == null) {
@@ -63,9 +86,13 @@ public class APIKitFlowsParser implements MuleConfigFileParser<Set<ResourceActio
         entries.add(new ResourceActionMimeTypeTriplet(api, path + resource, flow.getAction(), flow.getMimeType()));
 
       } catch (IllegalArgumentException e) {
-        LOGGER.info("Flow named '" + name + "' is not an APIKit Flow because it does not follow APIKit naming convention.");
+        logNotApikitFlow(name);
       }
     }
     return entries;
   }
+
+  private static void logNotApikitFlow(String name) {
+    LOGGER.info("Flow named '" + name + "' is not an APIKit Flow because it does not follow APIKit naming convention.");
+  }
 }
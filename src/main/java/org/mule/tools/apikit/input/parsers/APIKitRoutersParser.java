@@ -9,11 +9,7 @@ package org.mule.tools.apikit.input.parsers;
 import com.google.common.collect.Sets;
 import org.apache.commons.io.FilenameUtils;
 import org.jdom2.Attribute;
-import org.jdom2.Document;
 import org.jdom2.Element;
-import org.jdom2.filter.Filters;
-import org.jdom2.xpath.XPathExpression;
-import org.jdom2.xpath.XPathFactory;
 import org.mule.apikit.common.ApiSyncUtils;
 import org.mule.tools.apikit.input.APIKitFlow;
 import org.mule.tools.apikit.misc.APIKitTools;
@@ -24,40 +20,62 @@ import org.mule.tools.apikit.model.HttpListenerConfig;
 import org.mule.tools.apikit.model.MuleConfig;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class APIKitRoutersParser implements MuleConfigFileParser {
-
-  private static final XPathExpression<Element> COMPILED_ROUTER_EXPRESSION = getCompiledExpression();
-
-  private static XPathExpression<Element> getCompiledExpression() {
-    return XPathFactory.instance().compile("//*/*[local-name()='router']",
-                                           Filters.element(APIKitTools.API_KIT_NAMESPACE.getNamespace()));
-  }
+public class APIKitRoutersParser implements MuleConfigFileParser<Map<String, ApikitMainFlowContainer>> {
 
   private final List<APIKitConfig> apikitConfigs;
   private final List<HttpListenerConfig> httpListenerConfigs;
-  private final String apiFilePath;
+  private final Collection<String> apiFilePaths;
   private final APIFactory apiFactory;
   private MuleConfig muleConfig;
 
   public APIKitRoutersParser(List<APIKitConfig> apikitConfigs, APIFactory apiFactory, String apiFilePath, MuleConfig config) {
+    this(apikitConfigs, apiFactory, Collections.singletonList(apiFilePath), config);
+  }
+
+  /**
+   * @param apiFilePaths locations of the APIs being scaffolded
+   */
+  public APIKitRoutersParser(List<APIKitConfig> apikitConfigs, APIFactory apiFactory, Collection<String> apiFilePaths,
+                             MuleConfig config) {
     this.apikitConfigs = apikitConfigs;
     this.httpListenerConfigs = apiFactory.getHttpListenerConfigs();
-    this.apiFilePath = apiFilePath;
+    this.apiFilePaths = apiFilePaths;
     this.apiFactory = apiFactory;
     this.muleConfig = config;
   }
 
   @Override
-  public Map<String, ApikitMainFlowContainer> parse(Document document) {
+  public MuleConfigElementExtractor<Map<String, ApikitMainFlowContainer>> newExtractor() {
+    return new MuleConfigElementExtractor<Map<String, ApikitMainFlowContainer>>() {
+
+      private final List<Element> routerElements = new ArrayList<>();
+
+      @Override
+      public void visit(Element element, int depth) {
+        if (MuleConfigElement.APIKIT_ROUTER.matches(element)) {
+          routerElements.add(element);
+        }
+      }
+
+      @Override
+      public Map<String, ApikitMainFlowContainer> getResult() {
+        return getIncludedApis(routerElements);
+      }
+    };
+  }
+
+  private Map<String, ApikitMainFlowContainer> getIncludedApis(List<Element> elements) {
     Set<String> allApisPathsInApplication = getAllApisPathsInApplication();
     Map<String, ApikitMainFlowContainer> includedApis = new HashMap<>();
 
-    List<Element> elements = COMPILED_ROUTER_EXPRESSION.evaluate(document);
     for (Element element : elements) {
       APIKitConfig config = getApikitConfig(element);
 
@@ -88,7 +106,7 @@ public class APIKitRoutersParser implements MuleConfigFileParser {
       throw new IllegalStateException("Router should be contained in a flow");
     }
 
-    if (element.getName().equals("flow")) {
+    if (MuleConfigElement.FLOW.matches(element)) {
       return element.getChildren();
     }
 
@@ -179,7 +197,7 @@ public class APIKitRoutersParser implements MuleConfigFileParser {
   }
 
   private Set<String> getAllApisPathsInApplication() {
-    Set<String> paths = Sets.newHashSet(apiFilePath);
+    Set<String> paths = Sets.newHashSet(apiFilePaths);
     apikitConfigs.forEach(config -> {
       String apiPath =
           FilenameUtils.separatorsToSystem(config.getApi() != null ? config.getApi() : Paths.get(config.getRaml()).toString());
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input.parsers;
+
+import org.jdom2.Element;
+import org.mule.tools.apikit.model.ApikitRouter;
+import org.mule.tools.apikit.model.Flow;
+import org.mule.tools.apikit.model.MainFlow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the top level flows of a Mule configuration. Flows containing an APIKit router, at any depth, are main flows.
+ */
+public class FlowsParser implements MuleConfigFileParser<List<Flow>> {
+
+  @Override
+  public MuleConfigElementExtractor<List<Flow>> newExtractor() {
+    return new MuleConfigElementExtractor<List<Flow>>() {
+
+      private final List<Flow> flows = new ArrayList<>();
+      private Element flowWithoutRouter;
+
+      @Override
+      public void visit(Element element, int depth) {
+        if (depth == 2) {
+          flowWithoutRouter = MuleConfigElement.FLOW.matches(element) ? element : null;
+          if (flowWithoutRouter != null) {
+            flows.add(new Flow(element));
+          }
+        } else if (flowWithoutRouter != null && isApikitRouter(element)) {
+          MainFlow mainFlow = new MainFlow(flowWithoutRouter);
+          mainFlow.setApikitRouter(new ApikitRouter(element));
+          flows.set(flows.size() - 1, mainFlow);
+          flowWithoutRouter = null;
+        }
+      }
+
+      @Override
+      public List<Flow> getResult() {
+        return flows;
+      }
+    };
+  }
+
+  public static boolean isApikitRouter(Element element) {
+    return MuleConfigElement.APIKIT_ROUTER.matches(element);
+  }
+}
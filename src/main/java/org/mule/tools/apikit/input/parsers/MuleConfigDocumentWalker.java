@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input.parsers;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Traverses a Mule configuration document once, feeding every element below the root element to all the given extractors.
+ */
+public final class MuleConfigDocumentWalker {
+
+  private MuleConfigDocumentWalker() {}
+
+  public static void walk(Document document, MuleConfigElementExtractor<?>... extractors) {
+    Deque<Iterator<Element>> path = new ArrayDeque<>();
+    path.push(document.getRootElement().getChildren().iterator());
+    while (!path.isEmpty()) {
+      Iterator<Element> siblings = path.peek();
+      if (!siblings.hasNext()) {
+        path.pop();
+        continue;
+      }
+      Element element = siblings.next();
+      int depth = path.size() + 1;
+      for (MuleConfigElementExtractor<?> extractor : extractors) {
+        extractor.visit(element, depth);
+      }
+      if (!element.getChildren().isEmpty()) {
+        path.push(element.getChildren().iterator());
+      }
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input.parsers;
+
+import org.jdom2.Element;
+import org.mule.tools.apikit.model.APIKitConfig;
+import org.mule.tools.apikit.output.NamespaceWithLocation;
+
+import static org.mule.tools.apikit.misc.APIKitTools.API_KIT_NAMESPACE;
+import static org.mule.tools.apikit.output.MuleConfigGenerator.HTTP_NAMESPACE;
+import static org.mule.tools.apikit.output.MuleConfigGenerator.XMLNS_NAMESPACE;
+
+/**
+ * Elements of a Mule configuration looked up while parsing it. They are matched by local name and namespace URI, whatever prefix
+ * the configuration binds the namespace to.
+ */
+public enum MuleConfigElement {
+
+  APIKIT_CONFIG(APIKitConfig.ELEMENT_NAME, API_KIT_NAMESPACE),
+
+  APIKIT_ROUTER("router", API_KIT_NAMESPACE),
+
+  HTTP_LISTENER_CONFIG("listener-config", HTTP_NAMESPACE),
+
+  FLOW("flow", XMLNS_NAMESPACE);
+
+  private final String name;
+  private final String namespaceUri;
+
+  MuleConfigElement(String name, NamespaceWithLocation namespace) {
+    this.name = name;
+    this.namespaceUri = namespace.getNamespace().getURI();
+  }
+
+  public boolean matches(Element element) {
+    return name.equals(element.getName()) && namespaceUri.equals(element.getNamespaceURI());
+  }
+}
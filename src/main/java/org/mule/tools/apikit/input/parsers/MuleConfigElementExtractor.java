@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input.parsers;
+
+import org.jdom2.Element;
+
+/**
+ * Receives every element of a Mule configuration document while {@link MuleConfigDocumentWalker} traverses it, and builds its
+ * result from the ones it is interested in.
+ */
+public interface MuleConfigElementExtractor<T> {
+
+  /**
+   * @param element element below the root element, visited in document order
+   * @param depth depth of the element, where the children of the root element are at depth 2
+   */
+  void visit(Element element, int depth);
+
+  /**
+   * @return the result built from the visited elements, once the traversal is finished
+   */
+  T getResult();
+}
@@ -9,8 +9,21 @@ package org.mule.tools.apikit.input.parsers;
 
 import org.jdom2.Document;
 
+/**
+ * Parser of a Mule configuration document. Parsing is done by an {@link MuleConfigElementExtractor}, so that several parsers can
+ * share a single traversal of the same document through {@link MuleConfigDocumentWalker}.
+ */
 public interface MuleConfigFileParser<T> {
 
-  T parse(Document document);
+  default T parse(Document document) {
+    MuleConfigElementExtractor<T> extractor = newExtractor();
+    MuleConfigDocumentWalker.walk(document, extractor);
+    return extractor.getResult();
+  }
+
+  /**
+   * @return a new extractor, to be fed the elements of a single document
+   */
+  MuleConfigElementExtractor<T> newExtractor();
 
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least recently used cache of examples already converted to DataWeave expressions, keyed by the SHA-256 of the example so that
+ * the same example shared by many operations is converted only once.
+ * <p>
+ * When a directory is given, every conversion is also stored there and looked up on a miss, which lets consecutive scaffolding
+ * runs over the same API skip the DataWeave engine. The directory should be discarded when the DataWeave version changes. Failing
+ * to read or write the directory is not an error, the cache only gets less effective.
+ */
+public class DataWeaveExampleCache {
+
+  private static final String FILE_EXTENSION = ".dwl";
+
+  private final Map<String, String> expressions;
+  private final Path directory;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * @param maximumSize maximum number of expressions kept in memory
+   */
+  public DataWeaveExampleCache(int maximumSize) {
+    this(maximumSize, null);
+  }
+
+  /**
+   * @param maximumSize maximum number of expressions kept in memory
+   * @param directory directory where expressions are persisted, or null to keep them only in memory
+   */
+  public DataWeaveExampleCache(int maximumSize, Path directory) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Maximum size must be greater than zero but was " + maximumSize);
+    }
+    this.expressions = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > maximumSize;
+      }
+    };
+    this.directory = directory;
+  }
+
+  /**
+   * @param example example as found in the API specification
+   * @return its DataWeave expression text, or null if it was not converted before
+   */
+  public String get(String example) {
+    String key = hash(example);
+    String expression;
+    synchronized (expressions) {
+      expression = expressions.get(key);
+    }
+    if (expression == null && directory != null) {
+      expression = read(key);
+      if (expression != null) {
+        synchronized (expressions) {
+          expressions.put(key, expression);
+        }
+      }
+    }
+    if (expression != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    return expression;
+  }
+
+  /**
+   * @param example example as found in the API specification
+   * @param expression its DataWeave expression text
+   */
+  public void put(String example, String expression) {
+    String key = hash(example);
+    synchronized (expressions) {
+      expressions.put(key, expression);
+    }
+    if (directory != null) {
+      write(key, expression);
+    }
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return number of expressions kept in memory
+   */
+  public int size() {
+    synchronized (expressions) {
+      return expressions.size();
+    }
+  }
+
+  private String read(String key) {
+    Path file = directory.resolve(key + FILE_EXTENSION);
+    try {
+      return Files.isRegularFile(file) ? new String(Files.readAllBytes(file), StandardCharsets.UTF_8) : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void write(String key, String expression) {
+    Path temporaryFile = null;
+    try {
+      Files.createDirectories(directory);
+      temporaryFile = Files.createTempFile(directory, key, ".tmp");
+      Files.write(temporaryFile, expression.getBytes(StandardCharsets.UTF_8));
+      Files.move(temporaryFile, directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // not persisted, it will be converted again next time
+      if (temporaryFile != null) {
+        FileUtils.deleteQuietly(temporaryFile.toFile());
+      }
+    }
+  }
+
+  private static String hash(String example) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(example.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+
+/**
+ * JSON and YAML parsers shared by everything that reads or writes examples. Creating them is far more expensive than using them.
+ * <p>
+ * The object mapper is thread-safe once configured, so a single one is shared and must not be reconfigured. YAML parsers are not
+ * thread-safe, so every thread gets its own.
+ */
+public final class ExampleParsers {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disableDefaultTyping();
+  private static final ThreadLocal<Yaml> YAML = ThreadLocal.withInitial(Yaml::new);
+
+  private ExampleParsers() {}
+
+  /**
+   * @return the shared object mapper, with default typing disabled
+   */
+  public static ObjectMapper getObjectMapper() {
+    return OBJECT_MAPPER;
+  }
+
+  /**
+   * @param value value to serialize, such as the result of {@link #loadYaml(String)}
+   * @return the value as JSON
+   */
+  public static String writeAsJSON(Object value) throws JsonProcessingException {
+    return OBJECT_MAPPER.writeValueAsString(value);
+  }
+
+  /**
+   * @param yaml YAML document
+   * @return the document as maps, lists and scalars, or null if it is empty
+   */
+  public static Object loadYaml(String yaml) {
+    return YAML.get().load(yaml);
+  }
+
+  /**
+   * Checks that the payload starts with a well formed JSON value, anything after it is ignored. The value is only tokenized,
+   * without building it in memory.
+   *
+   * @param payload example
+   * @return whether the payload starts with a JSON value or is empty
+   */
+  public static boolean isValidJSON(String payload) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(payload)) {
+      if (parser.nextToken() != null) {
+        skipValue(parser);
+      }
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Unlike {@link #isValidJSON(String)}, the payload must have a JSON value and nothing after it.
+   *
+   * @param payload example
+   * @return whether the payload is a single JSON value
+   */
+  public static boolean isSingleJSONValue(String payload) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(payload)) {
+      if (parser.nextToken() == null) {
+        return false;
+      }
+      skipValue(parser);
+      return parser.nextToken() == null;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads the rest of the value the parser is at, so that it fails if the value is not well formed.
+   */
+  private static void skipValue(JsonParser parser) throws IOException {
+    parser.skipChildren();
+    parser.finishToken();
+  }
+}
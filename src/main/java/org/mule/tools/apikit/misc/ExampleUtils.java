@@ -7,21 +7,29 @@
 package org.mule.tools.apikit.misc;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.IOUtils;
 import org.mule.weave.v2.runtime.DataWeaveResult;
 import org.mule.weave.v2.runtime.DataWeaveScriptingEngine;
 import org.mule.weave.v2.runtime.ScriptingBindings;
-import org.yaml.snakeyaml.Yaml;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 public class ExampleUtils {
 
   private static final String APPLICATION_XML_CONTENT_TYPE = "application/xml";
   private static final String DEFAULT_CONTENT_TYPE = "application/json";
+  private static final String AS_DATAWEAVE_SCRIPT = "output application/dw --- payload";
+  private static final String AS_DATAWEAVE_BATCH_SCRIPT =
+      "output application/json --- payload map ((example) -> write(example, \"application/dw\"))";
 
   private ExampleUtils() {}
 
@@ -47,12 +55,121 @@ public class ExampleUtils {
     String transformContentType = getExampleContentType(example);
     String weaveResult = asDataWeave(example, transformContentType);
 
+    return asDataWeaveExpressionText(weaveResult, transformContentType);
+  }
+
+  /**
+   * Same as {@link #getDataWeaveExpressionText(String)}, looking up the example in the cache first and storing the conversion in
+   * it otherwise.
+   *
+   * @param payload example to convert
+   * @param cache cache of previous conversions
+   * @return DataWeave expression text of the example
+   */
+  public static String getDataWeaveExpressionText(String payload, DataWeaveExampleCache cache) {
+    String expression = cache.get(payload);
+    if (expression == null) {
+      expression = getDataWeaveExpressionText(payload);
+      cache.put(payload, expression);
+    }
+    return expression;
+  }
+
+  /**
+   * Same as {@link #getDataWeaveExpressionTexts(Collection)}, only examples that are not in the cache are converted, and their
+   * conversions are stored in it.
+   *
+   * @param payloads examples to convert
+   * @param cache cache of previous conversions
+   * @return DataWeave expression text of each example that could be converted, keyed by example
+   */
+  public static Map<String, String> getDataWeaveExpressionTexts(Collection<String> payloads, DataWeaveExampleCache cache) {
+    Map<String, String> expressions = new HashMap<>();
+    List<String> missingPayloads = new ArrayList<>();
+    for (String payload : new LinkedHashSet<>(payloads)) {
+      String expression = cache.get(payload);
+      if (expression != null) {
+        expressions.put(payload, expression);
+      } else {
+        missingPayloads.add(payload);
+      }
+    }
+    if (!missingPayloads.isEmpty()) {
+      Map<String, String> convertedExpressions = getDataWeaveExpressionTexts(missingPayloads);
+      convertedExpressions.forEach(cache::put);
+      expressions.putAll(convertedExpressions);
+    }
+    return expressions;
+  }
+
+  /**
+   * Same as {@link #getDataWeaveExpressionText(String)} for many examples at once. JSON (and YAML) examples are converted with a
+   * single DataWeave execution, which avoids paying the engine overhead for every one of them.
+   * <p>
+   * Examples that cannot be converted are left out of the result, so callers can fall back to
+   * {@link #getDataWeaveExpressionText(String)} and handle its failure as they already do.
+   *
+   * @param payloads examples to convert
+   * @return DataWeave expression text of each example that could be converted, keyed by example
+   */
+  public static Map<String, String> getDataWeaveExpressionTexts(Collection<String> payloads) {
+    Map<String, String> expressions = new HashMap<>();
+    List<String> jsonPayloads = new ArrayList<>();
+    List<String> jsonExamples = new ArrayList<>();
+    for (String payload : new LinkedHashSet<>(payloads)) {
+      try {
+        String example = getExampleAsJSONIfNeeded(payload);
+        String transformContentType = getExampleContentType(example);
+        if (DEFAULT_CONTENT_TYPE.equals(transformContentType) && isSingleJSONValue(example)) {
+          jsonPayloads.add(payload);
+          jsonExamples.add(example);
+        } else {
+          expressions.put(payload, asDataWeaveExpressionText(asDataWeave(example, transformContentType), transformContentType));
+        }
+      } catch (Exception e) {
+        // left out, the caller decides what to do with examples that cannot be converted
+      }
+    }
+
+    if (!jsonExamples.isEmpty()) {
+      try {
+        List<String> weaveResults = asDataWeave(jsonExamples);
+        for (int i = 0; i < jsonPayloads.size(); i++) {
+          expressions.put(jsonPayloads.get(i), asDataWeaveExpressionText(weaveResults.get(i), DEFAULT_CONTENT_TYPE));
+        }
+      } catch (Exception e) {
+        // the whole batch is left out, examples will be converted one by one
+      }
+    }
+    return expressions;
+  }
+
+  private static String asDataWeaveExpressionText(String weaveResult, String transformContentType) {
     return "%dw 2.0\n" +
         "output " + transformContentType + "\n" +
         "---\n" + weaveResult + "\n";
   }
 
+  private static List<String> asDataWeave(List<String> jsonExamples) throws IOException {
+    StringBuilder payload = new StringBuilder("[");
+    for (int i = 0; i < jsonExamples.size(); i++) {
+      payload.append(i == 0 ? "\n" : ",\n").append(jsonExamples.get(i));
+    }
+    payload.append("\n]");
+
+    String[] weaveResults = ExampleParsers.getObjectMapper()
+        .readValue(execute(AS_DATAWEAVE_BATCH_SCRIPT, payload.toString(), DEFAULT_CONTENT_TYPE), String[].class);
+    if (weaveResults.length != jsonExamples.size()) {
+      throw new IllegalStateException("Expected " + jsonExamples.size() + " examples but got " + weaveResults.length);
+    }
+    return Arrays.asList(weaveResults);
+  }
+
   private static String asDataWeave(String payload, String mimeType) {
+    return execute(AS_DATAWEAVE_SCRIPT, payload, mimeType);
+  }
+
+  private static String execute(String script, String payload, String mimeType) {
     Charset utf8 = Charset.forName("UTF-8");
     boolean isCorrectEncoding = Charset.defaultCharset().equals(utf8);
     if (!isCorrectEncoding) {
@@ -60,7 +177,6 @@ public class ExampleUtils {
       payload = new String(payloadAsByteArray, utf8);
     }
 
-    String script = "output application/dw --- payload";
     ScriptingBindings bindings = new ScriptingBindings()
         .addBinding("payload", payload, mimeType);
     DataWeaveResult result = DataWeaveScriptingEngine.write(script, bindings);
@@ -80,11 +196,9 @@ public class ExampleUtils {
   }
 
   private static String transformYamlExampleIntoJSON(String example) {
-    Yaml yaml = new Yaml();
-    Object yamlObject = yaml.load(example);
+    Object yamlObject = ExampleParsers.loadYaml(example);
     try {
-      return yamlObject == null ? surroundWithQuotes(example)
-          : new ObjectMapper().disableDefaultTyping().writeValueAsString(yamlObject);
+      return yamlObject == null ? surroundWithQuotes(example) : ExampleParsers.writeAsJSON(yamlObject);
     } catch (JsonProcessingException e) {
       return surroundWithQuotes(example);
     }
@@ -98,13 +212,14 @@ public class ExampleUtils {
     return payload.startsWith("<");
   }
 
-  public static boolean isValidJSON(String payload) {
-    try {
-      new ObjectMapper().disableDefaultTyping().readTree(payload);
-    } catch (IOException e) {
-      return false;
-    }
+  /**
+   * Unlike {@link #isValidJSON(String)}, anything after the first JSON value makes the payload invalid.
+   */
+  private static boolean isSingleJSONValue(String payload) {
+    return ExampleParsers.isSingleJSONValue(payload);
+  }
 
-    return true;
+  public static boolean isValidJSON(String payload) {
+    return ExampleParsers.isValidJSON(payload);
   }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import java.util.Collection;
+
+/**
+ * Splits APIKit flow names, {@code action:resource[:mimeType][:config]}, in a single pass over the name. It accepts the same
+ * names as {@link FlowNameUtils#getMatcher(String)} and resolves the same parts, without a regular expression.
+ * <p>
+ * Only the positions of the parts are kept, so a tokenizer can be reused for every flow of a configuration and names that are not
+ * APIKit flow names are rejected without allocating anything. A tokenizer must not be shared between threads.
+ */
+public class FlowNameTokenizer {
+
+  private static final char SEPARATOR = ':';
+
+  private String flowName;
+  private int actionEnd;
+  private int resourceEnd;
+  private int qualifierEnd;
+  private boolean hasQualifier;
+  private boolean hasConfig;
+
+  /**
+   * @param flowName name of a flow
+   * @return whether the name follows APIKit naming convention, in which case its parts can be read until the next call
+   */
+  public boolean tokenize(String flowName) {
+    this.flowName = null;
+    if (flowName == null) {
+      return false;
+    }
+    int actionEnd = flowName.indexOf(SEPARATOR);
+    if (actionEnd < 1 || actionEnd + 1 == flowName.length() || flowName.charAt(actionEnd + 1) != '/') {
+      return false;
+    }
+    int resourceEnd = indexOfSeparator(flowName, actionEnd + 1);
+    int qualifierEnd = resourceEnd < flowName.length() ? indexOfSeparator(flowName, resourceEnd + 1) : resourceEnd;
+
+    this.flowName = flowName;
+    this.actionEnd = actionEnd;
+    this.resourceEnd = resourceEnd;
+    this.qualifierEnd = qualifierEnd;
+    // An empty qualifier, as in "get:/pets::config", is neither a mime type nor a config
+    this.hasQualifier = qualifierEnd > resourceEnd + 1;
+    this.hasConfig = hasQualifier && qualifierEnd < flowName.length();
+    return true;
+  }
+
+  public String getAction() {
+    return tokenized().substring(0, actionEnd);
+  }
+
+  public String getResource() {
+    return tokenized().substring(actionEnd + 1, resourceEnd);
+  }
+
+  /**
+   * @param existingConfigs names of the APIKit configurations of the application
+   * @return the mime type, or null if the flow name has none
+   */
+  public String getMimeType(Collection<String> existingConfigs) {
+    if (!hasQualifier) {
+      return null;
+    }
+    String qualifier = getQualifier();
+    if (hasConfig || existingConfigs == null || !existingConfigs.contains(qualifier)) {
+      return qualifier;
+    }
+    return null;
+  }
+
+  /**
+   * @param existingConfigs names of the APIKit configurations of the application
+   * @return the config, or null if the flow name has none
+   */
+  public String getConfig(Collection<String> existingConfigs) {
+    if (!hasQualifier) {
+      return null;
+    }
+    if (hasConfig) {
+      return tokenized().substring(qualifierEnd + 1);
+    }
+    String qualifier = getQualifier();
+    return existingConfigs != null && existingConfigs.contains(qualifier) ? qualifier : null;
+  }
+
+  /**
+   * The part after the resource, which is the mime type when followed by a config and either one of them otherwise.
+   */
+  private String getQualifier() {
+    return tokenized().substring(resourceEnd + 1, qualifierEnd);
+  }
+
+  private String tokenized() {
+    if (flowName == null) {
+      throw new IllegalStateException("No APIKit flow name was tokenized");
+    }
+    return flowName;
+  }
+
+  private static int indexOfSeparator(String flowName, int from) {
+    int index = flowName.indexOf(SEPARATOR, from);
+    return index < 0 ? flowName.length() : index;
+  }
+}
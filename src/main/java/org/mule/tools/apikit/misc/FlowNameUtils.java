@@ -6,15 +6,11 @@
  */
 package org.mule.tools.apikit.misc;
 
-import com.google.common.collect.ImmutableBiMap;
-
 import java.util.Collection;
-import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static java.lang.String.valueOf;
 import static org.apache.commons.lang.StringUtils.isEmpty;
 
 public class FlowNameUtils {
@@ -22,11 +18,17 @@ public class FlowNameUtils {
   public static final String FLOW_NAME_SEPARATOR = ":";
   public static final String URL_RESOURCE_SEPARATOR = "/";
 
-  private static final ImmutableBiMap<String, String> specialCharacters = new ImmutableBiMap.Builder<String, String>()
-      .put(URL_RESOURCE_SEPARATOR, "\\")
-      .put("{", "(")
-      .put("}", ")")
-      .build();
+  private static final String ENCODED_COLON = "%3A";
+
+  // Special characters and their encoding, indexed by character; zero when the character is left as is
+  private static final char[] ENCODED = new char[128];
+  private static final char[] DECODED = new char[128];
+
+  static {
+    addSpecialCharacter('/', '\\');
+    addSpecialCharacter('{', '(');
+    addSpecialCharacter('}', ')');
+  }
 
   private static final String APIKIT_FLOW_NAME_FORMAT = "^([^:]+):(" + URL_RESOURCE_SEPARATOR + "[^:]*)(:([^:]+))?(:(.*))?$";
 
@@ -43,33 +45,82 @@ public class FlowNameUtils {
     return flowNameMatcher;
   }
 
+  private static void addSpecialCharacter(char character, char encoded) {
+    ENCODED[character] = encoded;
+    DECODED[encoded] = character;
+  }
+
   /**
    * transform special chars keys -> value if found in parameter value
    * 
    * @param value
-   * @return value with special chars transformed
+   * @return value with special chars transformed, the same instance if there is none
    */
   public static String encode(String value) {
-    return transform(value, specialCharacters);
+    return transform(value, ENCODED);
   }
 
   /**
    * transform specials chars value -> key if found in parameter value
    * 
    * @param value
-   * @return value with special chars transformed
+   * @return value with special chars transformed, the same instance if there is none
    */
   public static String decode(String value) {
-    return transform(value, specialCharacters.inverse());
+    return transform(value, DECODED);
+  }
+
+  private static String transform(String value, char[] mapping) {
+    int first = indexOfMapped(value, mapping, false);
+    if (first < 0) {
+      return value;
+    }
+    char[] characters = value.toCharArray();
+    for (int i = first; i < characters.length; i++) {
+      char mapped = map(characters[i], mapping);
+      if (mapped != 0) {
+        characters[i] = mapped;
+      }
+    }
+    return new String(characters);
+  }
+
+  /**
+   * Encodes both the colons and the special chars of a resource, in a single pass.
+   *
+   * @param resource resource as found in the API
+   * @return the same as {@code encode(encodeColons(resource))}, the same instance if there is nothing to encode
+   */
+  public static String encodeResource(String resource) {
+    int first = indexOfMapped(resource, ENCODED, true);
+    if (first < 0) {
+      return resource;
+    }
+    StringBuilder sb = new StringBuilder(resource.length() + 16).append(resource, 0, first);
+    for (int i = first; i < resource.length(); i++) {
+      char c = resource.charAt(i);
+      if (c == ':') {
+        sb.append(ENCODED_COLON);
+      } else {
+        char mapped = map(c, ENCODED);
+        sb.append(mapped != 0 ? mapped : c);
+      }
+    }
+    return sb.toString();
   }
 
-  private static String transform(String value, Map<String, String> mapping) {
-    StringBuilder stringBuilder = new StringBuilder(value.length());
-    value.chars().forEach(c -> {
-      String character = valueOf((char) c);
-      stringBuilder.append(mapping.getOrDefault(character, character));
-    });
-    return stringBuilder.toString();
+  private static int indexOfMapped(String value, char[] mapping, boolean colons) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (map(c, mapping) != 0 || (colons && c == ':')) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static char map(char c, char[] mapping) {
+    return c < mapping.length ? mapping[c] : 0;
   }
 
   public static String getAction(Matcher flowNameMatcher) {
@@ -113,13 +164,18 @@ public class FlowNameUtils {
   }
 
   public static String encodeColons(String s) {
-    if (s.length() == 0) {
+    int first = s.indexOf(':');
+    if (first < 0) {
       return s;
     }
-    StringBuilder sb = new StringBuilder(s.length() + 16);
-    for (int i = 0; i < s.length(); i++) {
+    StringBuilder sb = new StringBuilder(s.length() + 16).append(s, 0, first);
+    for (int i = first; i < s.length(); i++) {
       char c = s.charAt(i);
-      sb.append(c == ':' ? "%3A" : c);
+      if (c == ':') {
+        sb.append(ENCODED_COLON);
+      } else {
+        sb.append(c);
+      }
     }
     return sb.toString();
   }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+public class ParallelUtils {
+
+  private ParallelUtils() {}
+
+  /**
+   * Applies a function to every item. Items must be independent of each other, so that when the parallelism allows it they are
+   * processed concurrently on a dedicated pool.
+   *
+   * @param items items to process
+   * @param function function to apply to each item
+   * @param parallelism maximum number of items processed at the same time
+   * @return results of the function, in the same order as the items
+   */
+  public static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> function, int parallelism) {
+    int threads = Math.min(parallelism, items.size());
+    if (threads <= 1) {
+      return items.stream().<R>map(function).collect(toList());
+    }
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return pool.submit(() -> items.parallelStream().<R>map(function).collect(toList())).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for concurrent tasks", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
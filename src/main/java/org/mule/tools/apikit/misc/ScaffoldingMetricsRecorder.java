@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.mule.tools.apikit.model.ScaffoldingMetrics;
+import org.mule.tools.apikit.model.ScaffoldingMetrics.Phase;
+import org.mule.tools.apikit.model.ScaffoldingMetrics.PhaseMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates {@link ScaffoldingMetrics} for a scaffolding run. Phases can be measured concurrently from several threads, every
+ * measurement must be started and stopped on the same thread.
+ */
+public class ScaffoldingMetricsRecorder {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+      && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+  private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+  private static final Measurement NO_MEASUREMENT = () -> {
+  };
+
+  private static final ScaffoldingMetricsRecorder DISABLED = new ScaffoldingMetricsRecorder(false);
+
+  private final boolean enabled;
+  private final Map<Phase, Accumulator> accumulators = new EnumMap<>(Phase.class);
+
+  private ScaffoldingMetricsRecorder(boolean enabled) {
+    this.enabled = enabled;
+    for (Phase phase : Phase.values()) {
+      accumulators.put(phase, new Accumulator());
+    }
+  }
+
+  /**
+   * @return a recorder that measures every phase
+   */
+  public static ScaffoldingMetricsRecorder enabled() {
+    return new ScaffoldingMetricsRecorder(true);
+  }
+
+  /**
+   * @return a recorder that does not measure anything
+   */
+  public static ScaffoldingMetricsRecorder disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts measuring a phase on the current thread, the phase is recorded when the returned measurement is closed.
+   *
+   * @param phase phase being measured
+   * @return measurement to close once the phase finishes
+   */
+  public Measurement start(Phase phase) {
+    if (!enabled) {
+      return NO_MEASUREMENT;
+    }
+    Accumulator accumulator = accumulators.get(phase);
+    long wallTime = System.nanoTime();
+    long cpuTime = currentThreadCpuTime();
+    long allocatedBytes = currentThreadAllocatedBytes();
+    return () -> accumulator.add(System.nanoTime() - wallTime, currentThreadCpuTime() - cpuTime,
+                                 currentThreadAllocatedBytes() - allocatedBytes);
+  }
+
+  /**
+   * Executes the supplier measuring it as the given phase.
+   *
+   * @param phase phase being measured
+   * @param supplier phase to execute
+   * @return the value returned by the supplier
+   */
+  public <T> T record(Phase phase, Supplier<T> supplier) {
+    try (Measurement ignored = start(phase)) {
+      return supplier.get();
+    }
+  }
+
+  /**
+   * @return the metrics recorded so far, or null if this recorder is disabled
+   */
+  public ScaffoldingMetrics getMetrics() {
+    if (!enabled) {
+      return null;
+    }
+    Map<Phase, PhaseMetrics> phases = new EnumMap<>(Phase.class);
+    accumulators.forEach((phase, accumulator) -> phases.put(phase, accumulator.toPhaseMetrics()));
+    return new ScaffoldingMetrics(phases);
+  }
+
+  private static long currentThreadCpuTime() {
+    return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    return ALLOCATED_BYTES_SUPPORTED
+        ? ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId())
+        : 0;
+  }
+
+  private static boolean isAllocatedBytesSupported() {
+    try {
+      return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported()
+          && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
+  public interface Measurement extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  private static class Accumulator {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder wallTime = new LongAdder();
+    private final LongAdder cpuTime = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    void add(long wallTimeNanos, long cpuTimeNanos, long allocated) {
+      invocations.increment();
+      wallTime.add(wallTimeNanos);
+      cpuTime.add(cpuTimeNanos);
+      allocatedBytes.add(allocated);
+    }
+
+    PhaseMetrics toPhaseMetrics() {
+      return new PhaseMetrics(invocations.sum(), wallTime.sum(), CPU_TIME_SUPPORTED ? cpuTime.sum() : -1,
+                              ALLOCATED_BYTES_SUPPORTED ? allocatedBytes.sum() : -1);
+    }
+  }
+}
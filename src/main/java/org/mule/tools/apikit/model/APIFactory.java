@@ -10,28 +10,58 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang.Validate;
 import org.mule.apikit.common.ApiSyncUtils;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import static java.io.File.separator;
-import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang.StringUtils.isNumeric;
 import static org.mule.tools.apikit.model.APIKitConfig.DEFAULT_CONFIG_NAME;
 import static org.mule.tools.apikit.model.ApikitMainFlowContainer.DEFAULT_BASE_PATH;
 import static org.mule.tools.apikit.model.ApikitMainFlowContainer.DEFAULT_HOST;
 import static org.mule.tools.apikit.model.ApikitMainFlowContainer.DEFAULT_PROTOCOL;
 
+/**
+ * Creates the APIs of an application, giving each one a unique id and an HTTP listener configuration.
+ * <p>
+ * The ids and configuration names taken by the APIs, the listeners each path uses and the listener configurations by port are
+ * indexed as APIs and configurations are added, so creating an API does not depend on how many were created before. The ports of
+ * new listener configurations come from a {@link ListenerPortAllocator}, which avoids the ports of every listener configuration
+ * given or added, including the ones of the domain.
+ */
 public class APIFactory {
 
   private static final String RESOURCE_API_FOLDER = "src/main/resources/api/".replace("/", separator);
 
   private Map<String, ApikitMainFlowContainer> apis = new HashMap<>();
-  private List<HttpListenerConfig> httpListenerConfigs;
+  private final List<HttpListenerConfig> httpListenerConfigs = new HttpListenerConfigList();
+
+  private final Set<String> apiIds = new HashSet<>();
+  private final Set<String> configNames = new HashSet<>();
+  private final Set<String> httpConfigNames = new HashSet<>();
+  private final Map<String, List<HttpListenerConfig>> usedListenersByPath = new HashMap<>();
+  private final Set<HttpListenerConfig> knownListeners = new HashSet<>();
+  private final TreeMap<Integer, List<HttpListenerConfig>> numericPortListeners = new TreeMap<>();
+  private final List<HttpListenerConfig> nonNumericPortListeners = new ArrayList<>();
+  private final ListenerPortAllocator portAllocator;
 
   public APIFactory(List<HttpListenerConfig> httpListenerConfigs) {
-    this.httpListenerConfigs = new ArrayList<>(httpListenerConfigs);
+    this(httpListenerConfigs, new ListenerPortAllocator(null));
+  }
+
+  /**
+   * @param httpListenerConfigs listener configurations the APIs can use, usually the ones of the domain
+   * @param portAllocator allocator of the ports of new listener configurations
+   */
+  public APIFactory(List<HttpListenerConfig> httpListenerConfigs, ListenerPortAllocator portAllocator) {
+    this.portAllocator = portAllocator;
+    this.httpListenerConfigs.addAll(httpListenerConfigs);
   }
 
   public ApikitMainFlowContainer createAPIBindingInboundEndpoint(String apiFileName, String baseUri, String path,
@@ -56,7 +86,7 @@ public class APIFactory {
     final String id = buildApiId(relativePath);
     ApikitMainFlowContainer api = new ApikitMainFlowContainer(id, relativePath, baseUri, path, config, muleConfig);
     if (httpListenerConfig == null) {
-      final HttpListenerConfig availableConfig = getAvailableLCForPath(path, httpListenerConfigs);
+      final HttpListenerConfig availableConfig = getAvailableLCForPath(path);
       if (availableConfig != null) {
         api.setHttpListenerConfig(availableConfig);
       } else {
@@ -72,27 +102,63 @@ public class APIFactory {
     }
     api.setConfig(config);
     apis.put(relativePath, api);
+    indexApi(api);
     return api;
   }
 
+  /**
+   * Adds a listener configuration the APIs can use, unless an equal one was already added.
+   *
+   * @param httpListenerConfig listener configuration found in the application
+   */
+  public void addHttpListenerConfig(HttpListenerConfig httpListenerConfig) {
+    if (!knownListeners.contains(httpListenerConfig)) {
+      httpListenerConfigs.add(httpListenerConfig);
+    }
+  }
+
+  private void indexHttpListenerConfig(HttpListenerConfig httpListenerConfig) {
+    knownListeners.add(httpListenerConfig);
+    if (isNumeric(httpListenerConfig.getPort())) {
+      int port = Integer.parseInt(httpListenerConfig.getPort());
+      numericPortListeners.computeIfAbsent(port, key -> new ArrayList<>()).add(httpListenerConfig);
+      portAllocator.reserve(port);
+    } else {
+      nonNumericPortListeners.add(httpListenerConfig);
+    }
+  }
+
+  /**
+   * Indexes the listener configurations again, after one of them was replaced or removed. Their ports stay reserved.
+   */
+  private void reindexHttpListenerConfigs() {
+    knownListeners.clear();
+    numericPortListeners.clear();
+    nonNumericPortListeners.clear();
+    httpListenerConfigs.forEach(this::indexHttpListenerConfig);
+  }
+
+  private void indexApi(ApikitMainFlowContainer api) {
+    apiIds.add(api.getId());
+    if (api.getConfig() != null) {
+      configNames.add(api.getConfig().getName());
+    }
+    if (api.getHttpListenerConfig() != null) {
+      httpConfigNames.add(api.getHttpListenerConfig().getName());
+    }
+    if (api.getPath() != null) {
+      usedListenersByPath.computeIfAbsent(api.getPath(), path -> new ArrayList<>()).add(api.getHttpListenerConfig());
+    }
+  }
+
   private HttpListenerConfig buildDefaultHttpListenerConfig(String id) {
-    final String nextPort = getNextPort(httpListenerConfigs);
+    final String nextPort = String.valueOf(portAllocator.allocate());
     final HttpListenerConnection listenerConnection = buildDefaultHttpListenerConnection(nextPort);
     String httpListenerConfigName =
         id == null ? HttpListenerConfig.DEFAULT_CONFIG_NAME : id + "-" + HttpListenerConfig.DEFAULT_CONFIG_NAME;
     return new HttpListenerConfig(httpListenerConfigName, DEFAULT_BASE_PATH, listenerConnection);
   }
 
-  private String getNextPort(List<HttpListenerConfig> httpListenerConfigs) {
-    final List<HttpListenerConfig> numericPortListeners = getNumericPortListenersAsList(httpListenerConfigs);
-    if (numericPortListeners.size() > 0) {
-      final String greaterPort = numericPortListeners.get(numericPortListeners.size() - 1).getPort();
-      return String.valueOf(Integer.parseInt(greaterPort) + 1);
-    }
-
-    return "8081";
-  }
-
   private HttpListenerConnection buildDefaultHttpListenerConnection(String port) {
     return new HttpListenerConnection.Builder()
         .setHost(DEFAULT_HOST)
@@ -117,15 +183,6 @@ public class APIFactory {
     else
       apiId = getUriLastSegment(ramlFilePath);
     apiId = FilenameUtils.removeExtension(sanitizeApiId(apiId)).trim();
-    final List<String> apiIds = apis.values().stream().map(ApikitMainFlowContainer::getId).collect(toList());
-
-    final List<String> configNames = apis.values().stream()
-        .filter(a -> a.getConfig() != null)
-        .map(a -> a.getConfig().getName()).collect(toList());
-
-    final List<String> httpConfigNames = apis.values().stream()
-        .filter(a -> a.getHttpListenerConfig() != null)
-        .map(a -> a.getHttpListenerConfig().getName()).collect(toList());
 
     int count = 0;
     String id;
@@ -147,46 +204,82 @@ public class APIFactory {
     return path.replace(separator, "/");
   }
 
+  /**
+   * @return listener configurations the APIs can use. The list can be modified, as it always could; listener configurations added
+   *         to it are indexed as {@link #addHttpListenerConfig(HttpListenerConfig)} does, except that equal ones are not skipped
+   */
   public List<HttpListenerConfig> getHttpListenerConfigs() {
     return httpListenerConfigs;
   }
 
-  private HttpListenerConfig getAvailableLCForPath(String path, List<HttpListenerConfig> httpListenerConfigs) {
-    if (httpListenerConfigs.size() <= 0)
+  /**
+   * @return the first listener configuration, by port and then by the order they were added, that no API with the same path uses
+   */
+  private HttpListenerConfig getAvailableLCForPath(String path) {
+    if (httpListenerConfigs.isEmpty())
       return null;
 
-    final List<HttpListenerConfig> usedListeners = apis.entrySet().stream()
-        .filter(e -> {
-          String apiPath = e.getValue().getPath();
-          return path.equals(apiPath) || (path + "/*").equals(apiPath);
-        })
-        .map(e -> e.getValue().getHttpListenerConfig())
-        .collect(toList());
+    final List<HttpListenerConfig> usedListeners = new ArrayList<>();
+    usedListeners.addAll(usedListenersByPath.getOrDefault(path, Collections.emptyList()));
+    usedListeners.addAll(usedListenersByPath.getOrDefault(path + "/*", Collections.emptyList()));
 
+    for (List<HttpListenerConfig> listeners : numericPortListeners.values()) {
+      for (HttpListenerConfig listener : listeners) {
+        if (!usedListeners.contains(listener)) {
+          return listener;
+        }
+      }
+    }
+    for (HttpListenerConfig listener : nonNumericPortListeners) {
+      if (!usedListeners.contains(listener)) {
+        return listener;
+      }
+    }
+    return null;
+  }
 
-    final List<HttpListenerConfig> availableListeners = new ArrayList<>();
-    availableListeners.addAll(getNumericPortListenersAsList(httpListenerConfigs));
-    availableListeners.addAll(getNonNumericPortListeners(httpListenerConfigs));
+  /**
+   * Listener configurations of the factory, which keeps the indexes up to date whatever way the list is modified. Appending, the
+   * usual way, indexes just the new configuration.
+   */
+  private class HttpListenerConfigList extends AbstractList<HttpListenerConfig> {
 
-    return availableListeners.stream()
-        .filter(config -> !usedListeners.contains(config))
-        .findFirst()
-        .orElse(null);
-  }
+    private final List<HttpListenerConfig> configs = new ArrayList<>();
 
-  private List<HttpListenerConfig> getNumericPortListenersAsList(List<HttpListenerConfig> httpListenerConfigs) {
-    return httpListenerConfigs.stream()
-        .filter(config -> isNumeric(config.getPort()))
-        .sorted((o1, o2) -> {
-          Integer i1 = Integer.parseInt(o1.getPort());
-          Integer i2 = Integer.parseInt(o2.getPort());
-          return i1.compareTo(i2);
-        }).collect(toList());
-  }
+    @Override
+    public HttpListenerConfig get(int index) {
+      return configs.get(index);
+    }
+
+    @Override
+    public int size() {
+      return configs.size();
+    }
+
+    @Override
+    public void add(int index, HttpListenerConfig httpListenerConfig) {
+      configs.add(index, httpListenerConfig);
+      modCount++;
+      if (index == configs.size() - 1) {
+        indexHttpListenerConfig(httpListenerConfig);
+      } else {
+        reindexHttpListenerConfigs();
+      }
+    }
 
-  private List<HttpListenerConfig> getNonNumericPortListeners(List<HttpListenerConfig> httpListenerConfigs) {
-    return httpListenerConfigs.stream()
-        .filter(config -> !isNumeric(config.getPort()))
-        .collect(toList());
+    @Override
+    public HttpListenerConfig set(int index, HttpListenerConfig httpListenerConfig) {
+      HttpListenerConfig previous = configs.set(index, httpListenerConfig);
+      reindexHttpListenerConfigs();
+      return previous;
+    }
+
+    @Override
+    public HttpListenerConfig remove(int index) {
+      HttpListenerConfig removed = configs.remove(index);
+      modCount++;
+      reindexHttpListenerConfigs();
+      return removed;
+    }
   }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.model;
+
+import java.util.BitSet;
+
+/**
+ * Allocates the ports of the HTTP listener configurations scaffolding creates, avoiding the ports of the listener configurations
+ * that already exist in the application and its domain.
+ * <p>
+ * By default every new port is one above the highest port in use, starting at {@value #DEFAULT_PORT}. Within a {@link PortRange},
+ * the lowest free port of the range is taken instead, filling the gaps left between the ports in use. Either way allocation is
+ * deterministic, and it takes constant amortized time as used ports are kept in a bitmap scanned from the last allocated port.
+ */
+public class ListenerPortAllocator {
+
+  public static final int DEFAULT_PORT = 8081;
+  public static final int MAX_PORT = 65535;
+
+  private final PortRange range;
+  private final BitSet usedPorts = new BitSet();
+  private int highestPort = -1;
+  private int nextCandidate;
+
+  /**
+   * @param range ports to allocate from, lowest first, or null to allocate above the highest port in use
+   */
+  public ListenerPortAllocator(PortRange range) {
+    this.range = range;
+    this.nextCandidate = range != null ? range.getFirstPort() : DEFAULT_PORT;
+  }
+
+  /**
+   * Marks a port as used, so that it is never allocated. Ports that are not valid TCP ports are ignored, as they cannot be
+   * allocated anyway.
+   *
+   * @param port port of an existing listener configuration
+   */
+  public void reserve(int port) {
+    if (port < 0 || port > MAX_PORT) {
+      return;
+    }
+    usedPorts.set(port);
+    highestPort = Math.max(highestPort, port);
+  }
+
+  /**
+   * @return a port that is not in use, which is reserved from now on
+   * @throws IllegalStateException if every port of the range is in use or, without a range, if the highest port is in use
+   */
+  public int allocate() {
+    int port;
+    if (range == null) {
+      port = highestPort < 0 ? DEFAULT_PORT : highestPort + 1;
+      if (port > MAX_PORT) {
+        throw new IllegalStateException("Every port above " + highestPort + " is already in use");
+      }
+    } else {
+      port = usedPorts.nextClearBit(nextCandidate);
+      if (port > range.getLastPort()) {
+        throw new IllegalStateException("Every port between " + range.getFirstPort() + " and " + range.getLastPort()
+            + " is already in use");
+      }
+      nextCandidate = port;
+    }
+    reserve(port);
+    return port;
+  }
+
+  /**
+   * Ports, both inclusive, that listener configurations are allocated from.
+   */
+  public static final class PortRange {
+
+    private final int firstPort;
+    private final int lastPort;
+
+    private PortRange(int firstPort, int lastPort) {
+      this.firstPort = firstPort;
+      this.lastPort = lastPort;
+    }
+
+    public static PortRange of(int firstPort, int lastPort) {
+      if (firstPort < 1 || lastPort > MAX_PORT || firstPort > lastPort) {
+        throw new IllegalArgumentException("Invalid port range " + firstPort + "-" + lastPort);
+      }
+      return new PortRange(firstPort, lastPort);
+    }
+
+    public int getFirstPort() {
+      return firstPort;
+    }
+
+    public int getLastPort() {
+      return lastPort;
+    }
+  }
+}
@@ -7,13 +7,22 @@
 package org.mule.tools.apikit.model;
 
 import com.google.common.collect.Lists;
-import org.apache.commons.io.IOUtils;
 import org.jdom2.Document;
 import org.jdom2.Element;
+import org.jdom2.JDOMException;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
+import org.mule.tools.apikit.input.parsers.FlowsParser;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +34,8 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
 
   private String name;
   private Document originalContent;
+  private Document outline;
+  private byte[] source;
   private List<HttpListenerConfig> configurations;
   private List<APIKitConfig> apikitConfigs;
   private List<Flow> flows;
@@ -42,6 +53,19 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
     this.originalContent = content;
   }
 
+  /**
+   * Creates a configuration whose document is only parsed when first needed.
+   *
+   * @param outline outline of the configuration, used until its content is loaded
+   * @param source serialized configuration
+   */
+  protected MuleConfig(List<HttpListenerConfig> httpConfigs, List<APIKitConfig> apikitConfigs, List<Flow> flows,
+                       Document outline, byte[] source) {
+    this(httpConfigs, apikitConfigs, flows);
+    this.outline = outline;
+    this.source = source;
+  }
+
   public String getName() {
     return name;
   }
@@ -50,19 +74,110 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
     this.name = name;
   }
 
+  /**
+   * Returns the full document of this configuration, parsing it first if it was read lazily.
+   *
+   * @return document that can be modified
+   */
   public Document getContentAsDocument() {
+    loadContent();
     return originalContent;
   }
 
+  /**
+   * Returns a read-only view of this configuration that only has to contain its root element, every top level element, HTTP
+   * listener and APIKit configurations, and the sources and APIKit routers of flows. It is the full document once the content is
+   * loaded.
+   *
+   * @return outline of the configuration, that does not force its content to be loaded
+   */
+  public Document getContentOutline() {
+    return originalContent != null ? originalContent : outline;
+  }
+
+  /**
+   * @return whether the full document of this configuration is already available
+   */
+  public boolean isContentLoaded() {
+    return originalContent != null || source == null;
+  }
+
+  /**
+   * @return serialized configuration of a lazily read one, which must not be modified
+   */
+  byte[] getSource() {
+    return source;
+  }
+
+  /**
+   * Parses the full document of a lazily read configuration. Flows are read again from it, as the ones found in the outline lack
+   * most of their content.
+   */
+  private void loadContent() {
+    if (isContentLoaded()) {
+      return;
+    }
+    try {
+      originalContent = MuleConfigBuilder.getSaxBuilder().build(new ByteArrayInputStream(source));
+    } catch (JDOMException | IOException e) {
+      throw new IllegalStateException("Cannot read Mule configuration " + name, e);
+    }
+    flows = new FlowsParser().parse(originalContent);
+    outline = null;
+  }
+
+  /**
+   * Pretty prints this configuration, encoded in UTF-8. It is rendered to bytes once, without an intermediate text copy; use
+   * {@link #writeTo(OutputStream)} to avoid holding it in memory at all.
+   */
   @Override
   public InputStream getContent() {
+    ContentBuffer buffer = new ContentBuffer();
+    try {
+      writeTo(buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toInputStream();
+  }
+
+  /**
+   * Writes the same content as {@link #getContent()} straight into the stream, which is flushed but not closed.
+   *
+   * @param outputStream destination of the content
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    loadContent();
     Format prettyFormat = Format.getPrettyFormat();
     prettyFormat.setIndent(INDENTATION);
     prettyFormat.setLineSeparator(System.getProperty("line.separator"));
-    prettyFormat.setEncoding("UTF-8");
-    XMLOutputter xout = new XMLOutputter(prettyFormat);
-    String contentAsString = xout.outputString(originalContent);
-    return IOUtils.toInputStream(contentAsString);
+    prettyFormat.setEncoding(StandardCharsets.UTF_8.name());
+    new XMLOutputter(prettyFormat).output(originalContent, outputStream);
+  }
+
+  /**
+   * Writes the content a lazily read configuration was read from, without loading it, or the same content as
+   * {@link #writeTo(OutputStream)} once it is loaded. Either way it is the content the file of this configuration has after
+   * writing it back.
+   *
+   * @param outputStream destination of the content, which is flushed but not closed
+   */
+  public void writeSourceTo(OutputStream outputStream) throws IOException {
+    if (isContentLoaded()) {
+      writeTo(outputStream);
+    } else {
+      outputStream.write(source);
+      outputStream.flush();
+    }
+  }
+
+  /**
+   * Writes the same content as {@link #getContent()} straight into the channel, which is not closed.
+   *
+   * @param channel destination of the content
+   */
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    writeTo(Channels.newOutputStream(channel));
   }
 
   @Override
@@ -96,6 +211,7 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
   }
 
   public Document buildContent() {
+    loadContent();
     Document document = new Document();
     Element rootElement = originalContent.getRootElement().clone().detach();
     rootElement.setContent(new ArrayList<>()); // we only need the root element, not its content.
@@ -112,6 +228,7 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
   }
 
   public void addFlow(Flow flow) {
+    loadContent();
     this.flows.add(flow);
   }
 
@@ -128,13 +245,30 @@ public class MuleConfig implements NamedContent, WithConstructs, WithConfigs {
       return false;
     }
     MuleConfig that = (MuleConfig) o;
-    return Objects.equals(originalContent, that.originalContent) &&
+    return Objects.equals(contentIdentity(), that.contentIdentity()) &&
         Objects.equals(configurations, that.configurations) &&
         Objects.equals(apikitConfigs, that.apikitConfigs);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(originalContent, configurations, apikitConfigs);
+    return Objects.hash(contentIdentity(), configurations, apikitConfigs);
+  }
+
+  /**
+   * Identifies the content of this configuration, which does not change when a lazily read one is loaded.
+   */
+  private Object contentIdentity() {
+    return source != null ? source : originalContent;
+  }
+
+  /**
+   * Byte array stream whose content can be read back without copying it.
+   */
+  private static class ContentBuffer extends ByteArrayOutputStream {
+
+    InputStream toInputStream() {
+      return new ByteArrayInputStream(buf, 0, count);
+    }
   }
 }
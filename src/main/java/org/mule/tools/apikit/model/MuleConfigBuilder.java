@@ -6,12 +6,16 @@
  */
 package org.mule.tools.apikit.model;
 
+import org.apache.commons.io.IOUtils;
 import org.jdom2.Content;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.input.SAXBuilder;
 import org.mule.tools.apikit.input.parsers.APIKitConfigParser;
+import org.mule.tools.apikit.input.parsers.FlowsParser;
 import org.mule.tools.apikit.input.parsers.HttpListenerConfigParser;
+import org.mule.tools.apikit.input.parsers.MuleConfigDocumentWalker;
+import org.mule.tools.apikit.input.parsers.MuleConfigElementExtractor;
 
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -30,37 +34,53 @@ public class MuleConfigBuilder {
   }
 
   public static MuleConfig fromDoc(Document muleConfigContent) {
-    HttpListenerConfigParser httpConfigParser = new HttpListenerConfigParser();
-    APIKitConfigParser apiKitConfigParser = new APIKitConfigParser();
-
-    List<HttpListenerConfig> httpListenerConfigs = httpConfigParser.parse(muleConfigContent);
-    List<APIKitConfig> apikitConfigs = apiKitConfigParser.parse(muleConfigContent);
-    List<Flow> flowsInConfig = new ArrayList<>();
+    MuleConfigElementExtractor<List<HttpListenerConfig>> httpListenerConfigs = new HttpListenerConfigParser().newExtractor();
+    MuleConfigElementExtractor<List<APIKitConfig>> apikitConfigs = new APIKitConfigParser().newExtractor();
+    MuleConfigElementExtractor<List<Flow>> flows = new FlowsParser().newExtractor();
+    MuleConfigDocumentWalker.walk(muleConfigContent, httpListenerConfigs, apikitConfigs, flows);
+    return new MuleConfig(httpListenerConfigs.getResult(), apikitConfigs.getResult(), flows.getResult(), muleConfigContent);
+  }
 
-    for (Content content : muleConfigContent.getRootElement().getContent()) {
-      if (content instanceof Element) {
-        Element contentElement = (Element) content;
-        if ("flow".equals(contentElement.getName())) {
-          Optional<ApikitRouter> apikitRouter = getRouter(contentElement);
-          if (apikitRouter.isPresent()) {
-            MainFlow mainFlow = new MainFlow(contentElement);
-            mainFlow.setApikitRouter(apikitRouter.get());
-            flowsInConfig.add(mainFlow);
-          } else {
-            flowsInConfig.add(new Flow(contentElement));
-          }
-        }
-      }
+  /**
+   * Reads a Mule configuration in a single streaming pass, without building its full document. The document is only parsed if the
+   * configuration gets modified or serialized.
+   *
+   * @param input serialized Mule configuration, closed once read
+   * @return the configuration
+   */
+  public static MuleConfig fromStream(InputStream input) throws Exception {
+    byte[] source;
+    try {
+      source = IOUtils.toByteArray(input);
+    } finally {
+      input.close();
     }
+    return fromOutline(MuleConfigOutlineReader.read(source), source);
+  }
 
-    return new MuleConfig(httpListenerConfigs, apikitConfigs, flowsInConfig, muleConfigContent);
+  /**
+   * Copies a configuration read from a document or a stream, so that scaffolding the copy leaves the original untouched. A lazily
+   * read configuration that was not loaded yet is copied from its outline and stays lazy.
+   *
+   * @param muleConfig configuration to copy
+   * @return the copy, with the same name
+   */
+  public static MuleConfig copyOf(MuleConfig muleConfig) {
+    if (muleConfig.getContentOutline() == null) {
+      throw new IllegalArgumentException("Only Mule configurations read from a document or a stream can be copied");
+    }
+    MuleConfig copy = muleConfig.isContentLoaded() ? fromDoc(muleConfig.getContentAsDocument().clone())
+        : fromOutline(muleConfig.getContentOutline().clone(), muleConfig.getSource());
+    copy.setName(muleConfig.getName());
+    return copy;
   }
 
-  public static MuleConfig fromStream(InputStream input) throws Exception {
-    SAXBuilder builder = MuleConfigBuilder.getSaxBuilder();
-    Document inputAsDocument = builder.build(input);
-    input.close();
-    return fromDoc(inputAsDocument);
+  private static MuleConfig fromOutline(Document outline, byte[] source) {
+    MuleConfigElementExtractor<List<HttpListenerConfig>> httpListenerConfigs = new HttpListenerConfigParser().newExtractor();
+    MuleConfigElementExtractor<List<APIKitConfig>> apikitConfigs = new APIKitConfigParser().newExtractor();
+    MuleConfigElementExtractor<List<Flow>> flows = new FlowsParser().newExtractor();
+    MuleConfigDocumentWalker.walk(outline, httpListenerConfigs, apikitConfigs, flows);
+    return new MuleConfig(httpListenerConfigs.getResult(), apikitConfigs.getResult(), flows.getResult(), outline, source);
   }
 
   public static Optional<ApikitRouter> getRouter(Element flow) {
@@ -82,7 +102,7 @@ public class MuleConfigBuilder {
   }
 
   private static boolean elementIsApikitRouter(Element element) {
-    return element.getNamespace().getPrefix().equals("apikit") && element.getName().equals("router");
+    return FlowsParser.isApikitRouter(element);
   }
 
   /**
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.model;
+
+import org.jdom2.Attribute;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import static org.mule.tools.apikit.input.parsers.MuleConfigElement.APIKIT_CONFIG;
+import static org.mule.tools.apikit.input.parsers.MuleConfigElement.APIKIT_ROUTER;
+import static org.mule.tools.apikit.input.parsers.MuleConfigElement.FLOW;
+import static org.mule.tools.apikit.input.parsers.MuleConfigElement.HTTP_LISTENER_CONFIG;
+
+/**
+ * Reads, in a single streaming pass, the outline of a Mule configuration: the document with only the elements scaffolding looks
+ * at. That is the root element, every top level element without its content, HTTP listener and APIKit configurations with all
+ * their content, and the sources and APIKit routers of flows. Text, comments and every other element are skipped, so the outline
+ * of a large configuration is a small fraction of its full document.
+ * <p>
+ * As with {@link MuleConfigBuilder#getSaxBuilder()}, documents declaring a DOCTYPE are rejected.
+ */
+final class MuleConfigOutlineReader {
+
+  private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+  private MuleConfigOutlineReader() {}
+
+  /**
+   * @param content serialized Mule configuration
+   * @return the outline of the configuration
+   * @throws XMLStreamException if the content is not well formed XML or declares a DOCTYPE
+   */
+  static Document read(byte[] content) throws XMLStreamException {
+    XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+    try {
+      return read(reader);
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static Document read(XMLStreamReader reader) throws XMLStreamException {
+    Document document = new Document();
+    Deque<Node> open = new ArrayDeque<>();
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          Element element = toElement(reader);
+          Node parent = open.peek();
+          Node node;
+          if (parent == null) {
+            document.setRootElement(element);
+            node = new Node(element, true, false);
+          } else if (open.size() == 1) {
+            node = new Node(element, false, isListenerConfig(element) || isApikitConfig(element));
+          } else {
+            node = new Node(element, false, parent.keepContent);
+          }
+          open.push(node);
+          if (parent != null && (open.size() == 2 || node.keepContent || isRouter(element)
+              || isFlowSource(parent.element, element, open.size()))) {
+            attach(open);
+          }
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          open.pop();
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+          Node current = open.peek();
+          if (current != null && current.keepContent && !reader.isWhiteSpace()) {
+            current.element.addContent(reader.getText());
+          }
+          break;
+        case XMLStreamConstants.DTD:
+          throw new XMLStreamException("DOCTYPE is not allowed in Mule configurations", reader.getLocation());
+        default:
+          break;
+      }
+    }
+    if (!document.hasRootElement()) {
+      throw new XMLStreamException("Mule configuration has no root element");
+    }
+    return document;
+  }
+
+  /**
+   * Attaches the innermost open element to the outline, together with any of its ancestors that were not attached yet.
+   */
+  private static void attach(Deque<Node> open) {
+    Iterator<Node> outermostFirst = open.descendingIterator();
+    Node parent = outermostFirst.next();
+    while (outermostFirst.hasNext()) {
+      Node node = outermostFirst.next();
+      if (!node.attached) {
+        parent.element.addContent(node.element);
+        node.attached = true;
+      }
+      parent = node;
+    }
+  }
+
+  private static Element toElement(XMLStreamReader reader) {
+    Element element = new Element(reader.getLocalName(), namespace(reader.getPrefix(), reader.getNamespaceURI()));
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      Namespace declared = namespace(reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
+      if (!declared.getPrefix().equals(element.getNamespacePrefix())) {
+        element.addNamespaceDeclaration(declared);
+      }
+    }
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      element.setAttribute(new Attribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i),
+                                         namespace(reader.getAttributePrefix(i), reader.getAttributeNamespace(i))));
+    }
+    return element;
+  }
+
+  private static Namespace namespace(String prefix, String uri) {
+    return uri == null || uri.isEmpty() ? Namespace.NO_NAMESPACE : Namespace.getNamespace(prefix == null ? "" : prefix, uri);
+  }
+
+  private static boolean isListenerConfig(Element element) {
+    return HTTP_LISTENER_CONFIG.matches(element);
+  }
+
+  private static boolean isApikitConfig(Element element) {
+    return APIKIT_CONFIG.matches(element);
+  }
+
+  private static boolean isRouter(Element element) {
+    return APIKIT_ROUTER.matches(element);
+  }
+
+  private static boolean isFlowSource(Element parent, Element element, int depth) {
+    return depth == 3 && FLOW.matches(parent)
+        && ("listener".equals(element.getName()) || "inbound-endpoint".equals(element.getName()));
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  private static class Node {
+
+    private final Element element;
+    private final boolean keepContent;
+    private boolean attached;
+
+    Node(Element element, boolean attached, boolean keepContent) {
+      this.element = element;
+      this.attached = attached;
+      this.keepContent = keepContent;
+    }
+  }
+}
@@ -17,35 +17,74 @@ import org.mule.tools.apikit.misc.APIKitTools;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 
+/**
+ * Reads the HTTP listener configurations of Mule domains packaged as deployable artifacts.
+ * <p>
+ * Domains are cached by artifact, so the many applications of a build that share a domain only read it once. An artifact is read
+ * again when its size or modification time change.
+ */
 public class MuleDomainFactory {
 
   private static final String MULE_ARTIFACT_LOCATION_IN_JAR = "META-INF/mule-artifact/mule-artifact.json";
   private static final String MULE_DOMAIN_DEFAULT_CONFIG_FILE_NAME = "mule-domain-config.xml";
   private static final MuleDomainModelJsonSerializer serializer = new MuleDomainModelJsonSerializer();
   private static final HttpListenerConfigParser configParser = new HttpListenerConfigParser();
+  private static final Map<Path, CachedDomain> domains = new ConcurrentHashMap<>();
 
   public static MuleDomain fromDeployableArtifact(File artifact) throws Exception {
-    JarFile jarArtifact = new JarFile(artifact);
-    InputStream muleArtifacts = jarArtifact.getInputStream(jarArtifact.getEntry(MULE_ARTIFACT_LOCATION_IN_JAR));
-    MuleDomainModel domainModel = serializer.deserialize(APIKitTools.readContents(muleArtifacts));
-
-    Set<String> configs = domainModel.getConfigs();
-
-    if (configs.isEmpty()) {
-      List<HttpListenerConfig> httpListenerConfigs =
-          parseHttpListenerConfigsFromConfigFile(jarArtifact, MULE_DOMAIN_DEFAULT_CONFIG_FILE_NAME);
-      return new MuleDomain(httpListenerConfigs);
-    } else {
-      List<HttpListenerConfig> httpListenerConfigs = new ArrayList<>();
-      for (String config : configs) {
-        httpListenerConfigs.addAll(parseHttpListenerConfigsFromConfigFile(jarArtifact, config));
+    Path path = artifact.toPath().toAbsolutePath().normalize();
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    CachedDomain cached = domains.get(path);
+    if (cached != null && cached.isFor(attributes)) {
+      return cached.domain;
+    }
+    MuleDomain domain = readDeployableArtifact(artifact);
+    domains.put(path, new CachedDomain(attributes, domain));
+    return domain;
+  }
+
+  /**
+   * Forgets every domain read so far.
+   */
+  public static void clearCache() {
+    domains.clear();
+  }
+
+  /**
+   * Reads a domain without going through the cache, for callers that keep track of artifacts themselves.
+   *
+   * @param artifact deployable domain artifact
+   * @return the domain, read from the artifact
+   */
+  public static MuleDomain readDeployableArtifact(File artifact) throws Exception {
+    try (JarFile jarArtifact = new JarFile(artifact)) {
+      InputStream muleArtifacts = jarArtifact.getInputStream(jarArtifact.getEntry(MULE_ARTIFACT_LOCATION_IN_JAR));
+      MuleDomainModel domainModel = serializer.deserialize(APIKitTools.readContents(muleArtifacts));
+
+      Set<String> configs = domainModel.getConfigs();
+
+      if (configs.isEmpty()) {
+        List<HttpListenerConfig> httpListenerConfigs =
+            parseHttpListenerConfigsFromConfigFile(jarArtifact, MULE_DOMAIN_DEFAULT_CONFIG_FILE_NAME);
+        return new MuleDomain(httpListenerConfigs);
+      } else {
+        List<HttpListenerConfig> httpListenerConfigs = new ArrayList<>();
+        for (String config : configs) {
+          httpListenerConfigs.addAll(parseHttpListenerConfigsFromConfigFile(jarArtifact, config));
+        }
+        return new MuleDomain(httpListenerConfigs);
       }
-      return new MuleDomain(httpListenerConfigs);
     }
   }
 
@@ -60,4 +99,20 @@ public class MuleDomainFactory {
     return httpListenerConfigs;
   }
 
+  private static class CachedDomain {
+
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final MuleDomain domain;
+
+    CachedDomain(BasicFileAttributes attributes, MuleDomain domain) {
+      this.size = attributes.size();
+      this.lastModifiedTime = attributes.lastModifiedTime();
+      this.domain = domain;
+    }
+
+    boolean isFor(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+  }
 }
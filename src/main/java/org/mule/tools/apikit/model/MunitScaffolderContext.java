@@ -6,13 +6,26 @@
  */
 package org.mule.tools.apikit.model;
 
+import org.mule.tools.apikit.misc.DataWeaveExampleCache;
+import org.mule.tools.apikit.model.ListenerPortAllocator.PortRange;
+
 public class MunitScaffolderContext extends ScaffolderContext {
 
   private boolean shouldCreateMunitResources;
   private String munitSuiteName;
 
   protected MunitScaffolderContext(RuntimeEdition runtimeEdition, boolean shouldCreateMunitResources, String munitSuiteName) {
-    super(runtimeEdition);
+    this(runtimeEdition, 1, null, shouldCreateMunitResources, munitSuiteName);
+  }
+
+  protected MunitScaffolderContext(RuntimeEdition runtimeEdition, int parallelism, DataWeaveExampleCache exampleCache,
+                                   boolean shouldCreateMunitResources, String munitSuiteName) {
+    this(runtimeEdition, parallelism, exampleCache, null, shouldCreateMunitResources, munitSuiteName);
+  }
+
+  protected MunitScaffolderContext(RuntimeEdition runtimeEdition, int parallelism, DataWeaveExampleCache exampleCache,
+                                   PortRange listenerPortRange, boolean shouldCreateMunitResources, String munitSuiteName) {
+    super(runtimeEdition, parallelism, exampleCache, listenerPortRange);
     this.shouldCreateMunitResources = shouldCreateMunitResources;
     this.munitSuiteName = munitSuiteName;
   }
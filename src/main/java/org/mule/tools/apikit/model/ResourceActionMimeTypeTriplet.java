@@ -8,13 +8,15 @@ package org.mule.tools.apikit.model;
 
 import org.apache.commons.lang.Validate;
 
+import java.util.Objects;
+
 public class ResourceActionMimeTypeTriplet {
 
   private final ApikitMainFlowContainer api;
   private final String uri;
   private final String verb;
   private final String mimeType;
-
+  private int hash;
 
   public ResourceActionMimeTypeTriplet(ApikitMainFlowContainer api, String uri, String verb) {
     this(api, uri, verb, null);
@@ -46,7 +48,7 @@ public class ResourceActionMimeTypeTriplet {
       return false;
     if (!verb.equals(that.verb))
       return false;
-    if (mimeType != null && !mimeType.equals(that.mimeType))
+    if (!Objects.equals(mimeType, that.mimeType))
       return false;
 
     return true;
@@ -63,11 +65,15 @@ public class ResourceActionMimeTypeTriplet {
 
   @Override
   public int hashCode() {
-    int result = api.hashCode();
-    result = 31 * result + uri.hashCode();
-    result = 31 * result + verb.hashCode();
-    if (mimeType != null) {
-      result = 31 * result + mimeType.hashCode();
+    int result = hash;
+    if (result == 0) {
+      result = api.hashCode();
+      result = 31 * result + uri.hashCode();
+      result = 31 * result + verb.hashCode();
+      if (mimeType != null) {
+        result = 31 * result + mimeType.hashCode();
+      }
+      hash = result;
     }
     return result;
   }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable index of {@link ResourceActionMimeTypeTriplet}s, meant for looking up the operations of large APIs.
+ * <p>
+ * Every distinct API, URI, verb and mime type gets a small id, and each triplet is stored as a single long packing its four ids,
+ * in a sorted array. A lookup is a few hash lookups of strings, whose hashes are cached, plus a binary search, and never hashes
+ * the API. URI ids follow the lexical order of the URIs, so the triplets under a resource are stored next to each other and
+ * {@link #getByUriPrefix(String)} is a range query.
+ */
+public final class ResourceActionMimeTypeTripletIndex {
+
+  private static final int URI_SHIFT = 32;
+  private static final int API_SHIFT = 20;
+  private static final int VERB_SHIFT = 14;
+  private static final int MAX_APIS = 1 << (URI_SHIFT - API_SHIFT);
+  private static final int MAX_VERBS = 1 << (API_SHIFT - VERB_SHIFT);
+  private static final int MAX_MIME_TYPES = 1 << VERB_SHIFT;
+  private static final int NO_ID = -1;
+
+  private final Map<ApikitMainFlowContainer, Integer> apiIds = new HashMap<>();
+  private final Map<String, Integer> uriIds = new HashMap<>();
+  private final Map<String, Integer> verbIds = new HashMap<>();
+  private final Map<String, Integer> mimeTypeIds = new HashMap<>();
+  private final String[] uris;
+  private final long[] keys;
+  private final ResourceActionMimeTypeTriplet[] triplets;
+
+  private ResourceActionMimeTypeTripletIndex(Collection<ResourceActionMimeTypeTriplet> entries) {
+    TreeSet<String> sortedUris = new TreeSet<>();
+    for (ResourceActionMimeTypeTriplet entry : entries) {
+      sortedUris.add(entry.getUri());
+      intern(apiIds, entry.getApi(), MAX_APIS, "APIs");
+      intern(verbIds, entry.getVerb(), MAX_VERBS, "verbs");
+      intern(mimeTypeIds, entry.getMimeType(), MAX_MIME_TYPES, "mime types");
+    }
+    uris = sortedUris.toArray(new String[0]);
+    for (int i = 0; i < uris.length; i++) {
+      uriIds.put(uris[i], i);
+    }
+
+    long[] unsortedKeys = new long[entries.size()];
+    int i = 0;
+    for (ResourceActionMimeTypeTriplet entry : entries) {
+      unsortedKeys[i++] = key(entry);
+    }
+    Integer[] order = new Integer[unsortedKeys.length];
+    Arrays.setAll(order, position -> position);
+    Arrays.sort(order, (a, b) -> Long.compare(unsortedKeys[a], unsortedKeys[b]));
+
+    ResourceActionMimeTypeTriplet[] entryArray = entries.toArray(new ResourceActionMimeTypeTriplet[0]);
+    long[] sortedKeys = new long[order.length];
+    ResourceActionMimeTypeTriplet[] sortedTriplets = new ResourceActionMimeTypeTriplet[order.length];
+    int size = 0;
+    for (Integer position : order) {
+      long key = unsortedKeys[position];
+      if (size == 0 || sortedKeys[size - 1] != key) {
+        sortedKeys[size] = key;
+        sortedTriplets[size] = entryArray[position];
+        size++;
+      }
+    }
+    keys = Arrays.copyOf(sortedKeys, size);
+    triplets = Arrays.copyOf(sortedTriplets, size);
+  }
+
+  /**
+   * @param entries triplets to index, of which only the first of equal ones is kept
+   * @return the index of the given triplets
+   */
+  public static ResourceActionMimeTypeTripletIndex of(Collection<ResourceActionMimeTypeTriplet> entries) {
+    return new ResourceActionMimeTypeTripletIndex(entries);
+  }
+
+  public int size() {
+    return keys.length;
+  }
+
+  public boolean contains(ResourceActionMimeTypeTriplet entry) {
+    return get(entry) != null;
+  }
+
+  /**
+   * @return the indexed triplet equal to the given one, or null if there is none
+   */
+  public ResourceActionMimeTypeTriplet get(ResourceActionMimeTypeTriplet entry) {
+    int uriId = idOf(uriIds, entry.getUri());
+    int apiId = idOf(apiIds, entry.getApi());
+    int verbId = idOf(verbIds, entry.getVerb());
+    int mimeTypeId = idOf(mimeTypeIds, entry.getMimeType());
+    if (uriId == NO_ID || apiId == NO_ID || verbId == NO_ID || mimeTypeId == NO_ID) {
+      return null;
+    }
+    int position = Arrays.binarySearch(keys, pack(uriId, apiId, verbId, mimeTypeId));
+    return position >= 0 ? triplets[position] : null;
+  }
+
+  /**
+   * @param entries triplets to look up
+   * @return the given triplets that are not in this index, in iteration order
+   */
+  public List<ResourceActionMimeTypeTriplet> getMissing(Collection<ResourceActionMimeTypeTriplet> entries) {
+    List<ResourceActionMimeTypeTriplet> missing = new ArrayList<>();
+    for (ResourceActionMimeTypeTriplet entry : entries) {
+      if (!contains(entry)) {
+        missing.add(entry);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * @param prefix start of the URIs, for example the URI of a resource
+   * @return the indexed triplets whose URI starts with the given prefix, sorted by URI
+   */
+  public List<ResourceActionMimeTypeTriplet> getByUriPrefix(String prefix) {
+    int firstUri = insertionPoint(Arrays.binarySearch(uris, prefix));
+    int lastUri = firstUri;
+    while (lastUri < uris.length && uris[lastUri].startsWith(prefix)) {
+      lastUri++;
+    }
+    if (firstUri == lastUri) {
+      return Collections.emptyList();
+    }
+    int from = insertionPoint(Arrays.binarySearch(keys, (long) firstUri << URI_SHIFT));
+    int to = insertionPoint(Arrays.binarySearch(keys, (long) lastUri << URI_SHIFT));
+    return Collections.unmodifiableList(Arrays.asList(triplets).subList(from, to));
+  }
+
+  private long key(ResourceActionMimeTypeTriplet entry) {
+    return pack(uriIds.get(entry.getUri()), apiIds.get(entry.getApi()), verbIds.get(entry.getVerb()),
+                mimeTypeIds.get(entry.getMimeType()));
+  }
+
+  private static long pack(int uriId, int apiId, int verbId, int mimeTypeId) {
+    return (long) uriId << URI_SHIFT | (long) apiId << API_SHIFT | (long) verbId << VERB_SHIFT | mimeTypeId;
+  }
+
+  private static <K> void intern(Map<K, Integer> ids, K value, int maximum, String description) {
+    if (!ids.containsKey(value)) {
+      if (ids.size() == maximum) {
+        throw new IllegalStateException("Cannot index more than " + maximum + " distinct " + description);
+      }
+      ids.put(value, ids.size());
+    }
+  }
+
+  private static <K> int idOf(Map<K, Integer> ids, K value) {
+    Integer id = ids.get(value);
+    return id != null ? id : NO_ID;
+  }
+
+  private static int insertionPoint(int binarySearchResult) {
+    return binarySearchResult >= 0 ? binarySearchResult : -binarySearchResult - 1;
+  }
+}
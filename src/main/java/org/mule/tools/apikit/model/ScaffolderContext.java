@@ -6,15 +6,54 @@
  */
 package org.mule.tools.apikit.model;
 
+import org.mule.tools.apikit.misc.DataWeaveExampleCache;
+import org.mule.tools.apikit.model.ListenerPortAllocator.PortRange;
+
 public class ScaffolderContext {
 
   private RuntimeEdition runtimeEdition;
+  private int parallelism;
+  private DataWeaveExampleCache exampleCache;
+  private PortRange listenerPortRange;
 
   protected ScaffolderContext(RuntimeEdition runtimeEdition) {
+    this(runtimeEdition, 1, null);
+  }
+
+  protected ScaffolderContext(RuntimeEdition runtimeEdition, int parallelism, DataWeaveExampleCache exampleCache) {
+    this(runtimeEdition, parallelism, exampleCache, null);
+  }
+
+  protected ScaffolderContext(RuntimeEdition runtimeEdition, int parallelism, DataWeaveExampleCache exampleCache,
+                              PortRange listenerPortRange) {
     this.runtimeEdition = runtimeEdition;
+    this.parallelism = parallelism;
+    this.exampleCache = exampleCache;
+    this.listenerPortRange = listenerPortRange;
   }
 
   public RuntimeEdition getRuntimeEdition() {
     return runtimeEdition;
   }
+
+  /**
+   * @return maximum number of threads the scaffolder may use, 1 means everything runs on the calling thread
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * @return cache of examples converted to DataWeave shared between runs, or null if examples are always converted
+   */
+  public DataWeaveExampleCache getExampleCache() {
+    return exampleCache;
+  }
+
+  /**
+   * @return ports new HTTP listener configurations take, or null if they take the port above the highest one in use
+   */
+  public PortRange getListenerPortRange() {
+    return listenerPortRange;
+  }
 }
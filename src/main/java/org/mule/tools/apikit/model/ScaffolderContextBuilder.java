@@ -6,11 +6,17 @@
  */
 package org.mule.tools.apikit.model;
 
+import org.mule.tools.apikit.misc.DataWeaveExampleCache;
+import org.mule.tools.apikit.model.ListenerPortAllocator.PortRange;
+
 public class ScaffolderContextBuilder {
 
   private RuntimeEdition runtimeEdition = RuntimeEdition.CE;
   private boolean shouldCreateMunitResources = false;
   private String munitSuiteName;
+  private int parallelism = 1;
+  private DataWeaveExampleCache exampleCache;
+  private PortRange listenerPortRange;
 
   public static ScaffolderContextBuilder builder() {
     return new ScaffolderContextBuilder();
@@ -31,10 +37,40 @@ public class ScaffolderContextBuilder {
     return this;
   }
 
+  /**
+   * Maximum number of threads used to parse existing configurations, collect the operations of the API and generate flows.
+   * Defaults to 1, which keeps everything on the calling thread.
+   */
+  public ScaffolderContextBuilder withParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be greater than zero but was " + parallelism);
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Cache of examples converted to DataWeave. Sharing the same cache between runs avoids converting the same examples again.
+   */
+  public ScaffolderContextBuilder withExampleCache(DataWeaveExampleCache exampleCache) {
+    this.exampleCache = exampleCache;
+    return this;
+  }
+
+  /**
+   * Ports, both inclusive, that new HTTP listener configurations take, lowest free one first. By default they take the port above
+   * the highest one in use, starting at 8081.
+   */
+  public ScaffolderContextBuilder withListenerPortRange(int firstPort, int lastPort) {
+    this.listenerPortRange = PortRange.of(firstPort, lastPort);
+    return this;
+  }
+
   public ScaffolderContext build() {
     if (!shouldCreateMunitResources && munitSuiteName == null) {
-      return new ScaffolderContext(runtimeEdition);
+      return new ScaffolderContext(runtimeEdition, parallelism, exampleCache, listenerPortRange);
     }
-    return new MunitScaffolderContext(runtimeEdition, shouldCreateMunitResources, munitSuiteName);
+    return new MunitScaffolderContext(runtimeEdition, parallelism, exampleCache, listenerPortRange, shouldCreateMunitResources,
+                                      munitSuiteName);
   }
 }
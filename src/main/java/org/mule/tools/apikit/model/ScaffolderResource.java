@@ -8,14 +8,26 @@ package org.mule.tools.apikit.model;
 
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class ScaffolderResource implements NamedContent {
 
   private String directory;
   private String name;
-  private InputStream content;
+  private Supplier<InputStream> content;
 
+  /**
+   * @param content content of the resource, which can only be read once
+   */
   public ScaffolderResource(String directory, String name, InputStream content) {
+    this(directory, name, () -> content);
+  }
+
+  /**
+   * @param content renders the content of the resource every time it is read, so that it is only held in memory while it is being
+   *        read
+   */
+  public ScaffolderResource(String directory, String name, Supplier<InputStream> content) {
     this.directory = directory;
     this.name = name;
     this.content = content;
@@ -30,7 +42,7 @@ public class ScaffolderResource implements NamedContent {
   }
 
   public InputStream getContent() {
-    return content;
+    return content.get();
   }
 
   @Override
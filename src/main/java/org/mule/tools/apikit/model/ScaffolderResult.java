@@ -9,18 +9,21 @@ package org.mule.tools.apikit.model;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public final class ScaffolderResult implements ScaffoldingResult {
 
   private final List<MuleConfig> generatedConfigs;
   private final List<ScaffolderResource> generatedResources;
   private final List<ScaffoldingError> errors;
+  private final ScaffoldingMetrics metrics;
 
   private ScaffolderResult(List<MuleConfig> generatedConfigs, List<ScaffolderResource> generatedResources,
-                           List<ScaffoldingError> errors) {
+                           List<ScaffoldingError> errors, ScaffoldingMetrics metrics) {
     this.generatedConfigs = generatedConfigs;
     this.generatedResources = generatedResources;
     this.errors = errors;
+    this.metrics = metrics;
   }
 
   @Override
@@ -43,6 +46,11 @@ public final class ScaffolderResult implements ScaffoldingResult {
     return Collections.unmodifiableList(errors);
   }
 
+  @Override
+  public Optional<ScaffoldingMetrics> getMetrics() {
+    return Optional.ofNullable(metrics);
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -52,6 +60,7 @@ public final class ScaffolderResult implements ScaffoldingResult {
     private List<MuleConfig> generatedConfigs;
     private List<ScaffolderResource> generatedResources;
     private List<ScaffoldingError> errors;
+    private ScaffoldingMetrics metrics;
 
     public Builder() {
       generatedConfigs = new ArrayList<>();
@@ -74,8 +83,13 @@ public final class ScaffolderResult implements ScaffoldingResult {
       return this;
     }
 
+    public Builder withMetrics(ScaffoldingMetrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
     public ScaffolderResult build() {
-      return new ScaffolderResult(generatedConfigs, generatedResources, errors);
+      return new ScaffolderResult(generatedConfigs, generatedResources, errors, metrics);
     }
   }
 }
@@ -8,25 +8,42 @@ package org.mule.tools.apikit.model;
 
 import org.mule.apikit.model.ApiSpecification;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ScaffoldingConfiguration {
 
-  private final ApiSpecification api;
+  private final List<ApiSpecification> apis;
   private final List<MuleConfig> configurations;
   private final MuleDomain domain;
   private final boolean showConsole;
+  private final boolean metricsEnabled;
+  private final Path fingerprintIndex;
 
-  private ScaffoldingConfiguration(ApiSpecification api, List<MuleConfig> configs, MuleDomain domain, boolean showConsole) {
-    this.api = api;
+  private ScaffoldingConfiguration(List<ApiSpecification> apis, List<MuleConfig> configs, MuleDomain domain,
+                                   boolean showConsole, boolean metricsEnabled, Path fingerprintIndex) {
+    this.apis = Collections.unmodifiableList(apis);
     this.configurations = configs;
     this.domain = domain;
     this.showConsole = showConsole;
+    this.metricsEnabled = metricsEnabled;
+    this.fingerprintIndex = fingerprintIndex;
   }
 
+  /**
+   * @return the API to scaffold, or the first one when several are scaffolded together
+   */
   public ApiSpecification getApi() {
-    return api;
+    return apis.isEmpty() ? null : apis.get(0);
+  }
+
+  /**
+   * @return the APIs to scaffold, in the order they were added
+   */
+  public List<ApiSpecification> getApis() {
+    return apis;
   }
 
   public List<MuleConfig> getMuleConfigurations() {
@@ -41,25 +58,46 @@ public class ScaffoldingConfiguration {
     return showConsole;
   }
 
+  public boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  public Path getFingerprintIndex() {
+    return fingerprintIndex;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
 
   public static class Builder {
 
-    private ApiSpecification api;
+    private final List<ApiSpecification> apis;
     private List<MuleConfig> muleConfigurations;
     private MuleDomain domain;
     private boolean showConsole;
+    private boolean metricsEnabled;
+    private Path fingerprintIndex;
 
     public Builder() {
+      this.apis = new ArrayList<>();
       this.muleConfigurations = new ArrayList<>();
       this.showConsole = true;
       domain = MuleDomain.builder().build();
     }
 
     public Builder withApi(ApiSpecification api) {
-      this.api = api;
+      this.apis.clear();
+      this.apis.add(api);
+      return this;
+    }
+
+    /**
+     * Adds APIs to scaffold in the same run. The Mule configurations are parsed once for all of them, and every API gets its own
+     * HTTP listener and port as if they were scaffolded one after the other.
+     */
+    public Builder withApis(List<ApiSpecification> apis) {
+      this.apis.addAll(apis);
       return this;
     }
 
@@ -78,8 +116,27 @@ public class ScaffoldingConfiguration {
       return this;
     }
 
+    /**
+     * Whether the result should carry the time and memory spent on each scaffolding phase. Disabled by default.
+     */
+    public Builder withMetricsEnabled(boolean metricsEnabled) {
+      this.metricsEnabled = metricsEnabled;
+      return this;
+    }
+
+    /**
+     * File where the fingerprints of the scaffolded operations are kept between runs. When set, operations that did not change
+     * since the last run are skipped as long as the Mule configurations are the ones that run left, and the run does nothing at
+     * all, returning no configurations, when neither the API nor the configurations changed.
+     */
+    public Builder withFingerprintIndex(Path fingerprintIndex) {
+      this.fingerprintIndex = fingerprintIndex;
+      return this;
+    }
+
     public ScaffoldingConfiguration build() {
-      return new ScaffoldingConfiguration(api, muleConfigurations, domain, showConsole);
+      return new ScaffoldingConfiguration(new ArrayList<>(apis), muleConfigurations, domain, showConsole, metricsEnabled,
+                                          fingerprintIndex);
     }
   }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Wall time, CPU time and allocated bytes spent on each phase of a scaffolding run.
+ * <p>
+ * CPU time and allocated bytes are measured on the thread that executed the phase, and are reported as {@code -1} when the JVM
+ * does not support measuring them. {@link Phase#FLOW_RENDERING} is accumulated over every rendered flow and is part of
+ * {@link Phase#MULE_CONFIG_GENERATION}.
+ */
+public final class ScaffoldingMetrics {
+
+  public enum Phase {
+    /** Traversal of the API specification resources ({@code RAMLFilesParser}). */
+    API_PARSING,
+    /** Parsing of the existing Mule configurations ({@code MuleConfigParser}). */
+    MULE_CONFIG_PARSING,
+    /** Diff between the API and the existing flows ({@code GenerationStrategy}). */
+    GENERATION_STRATEGY,
+    /** Generation of the new or updated Mule configurations ({@code MuleConfigGenerator}). */
+    MULE_CONFIG_GENERATION,
+    /** Rendering of each APIKit flow ({@code APIKitFlowScope}). */
+    FLOW_RENDERING
+  }
+
+  private final Map<Phase, PhaseMetrics> phases;
+
+  public ScaffoldingMetrics(Map<Phase, PhaseMetrics> phases) {
+    this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+  }
+
+  /**
+   * @param phase scaffolding phase
+   * @return metrics of the phase, all zero if the phase was not executed
+   */
+  public PhaseMetrics getPhase(Phase phase) {
+    return phases.getOrDefault(phase, PhaseMetrics.EMPTY);
+  }
+
+  public Map<Phase, PhaseMetrics> getPhases() {
+    return phases;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ScaffoldingMetrics{");
+    String separator = "";
+    for (Map.Entry<Phase, PhaseMetrics> phase : phases.entrySet()) {
+      builder.append(separator).append(phase.getKey()).append('=').append(phase.getValue());
+      separator = ", ";
+    }
+    return builder.append('}').toString();
+  }
+
+  public static final class PhaseMetrics {
+
+    static final PhaseMetrics EMPTY = new PhaseMetrics(0, 0, 0, 0);
+
+    private final long invocations;
+    private final long wallTimeNanos;
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    public PhaseMetrics(long invocations, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes) {
+      this.invocations = invocations;
+      this.wallTimeNanos = wallTimeNanos;
+      this.cpuTimeNanos = cpuTimeNanos;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getInvocations() {
+      return invocations;
+    }
+
+    public long getWallTimeNanos() {
+      return wallTimeNanos;
+    }
+
+    public long getCpuTimeNanos() {
+      return cpuTimeNanos;
+    }
+
+    public long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return "{invocations=" + invocations + ", wallTimeNanos=" + wallTimeNanos + ", cpuTimeNanos=" + cpuTimeNanos
+          + ", allocatedBytes=" + allocatedBytes + '}';
+    }
+  }
+}
@@ -6,7 +6,12 @@
  */
 package org.mule.tools.apikit.model;
 
+import org.mule.tools.apikit.output.ScaffoldingResultWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 public interface ScaffoldingResult {
 
@@ -17,4 +22,25 @@ public interface ScaffoldingResult {
   List<ScaffolderResource> getGeneratedResources();
 
   List<ScaffoldingError> getErrors();
+
+  /**
+   * @return per phase metrics of the run, present only when enabled in the {@link ScaffoldingConfiguration}
+   */
+  default Optional<ScaffoldingMetrics> getMetrics() {
+    return Optional.empty();
+  }
+
+  /**
+   * Writes the generated configurations and resources, leaving untouched the files that already have the generated content.
+   * Resources created from a stream are consumed, as their content can only be read once.
+   *
+   * @param configsDirectory directory where configurations are written, by name
+   * @param resourcesDirectory directory where resources are written, under their own directory
+   * @return files whose content changed
+   * @see ScaffoldingResultWriter
+   */
+  default List<Path> writeTo(Path configsDirectory, Path resourcesDirectory) throws IOException {
+    return new ScaffoldingResultWriter(Runtime.getRuntime().availableProcessors()).write(this, configsDirectory,
+                                                                                         resourcesDirectory);
+  }
 }
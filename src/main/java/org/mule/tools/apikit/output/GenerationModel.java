@@ -15,20 +15,17 @@ import org.mule.runtime.api.metadata.MediaType;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 import static java.util.stream.Collectors.toMap;
 import static org.mule.runtime.api.metadata.MediaType.parse;
 import static org.mule.tools.apikit.misc.FlowNameUtils.FLOW_NAME_SEPARATOR;
 import static org.mule.tools.apikit.misc.FlowNameUtils.encode;
-import static org.mule.tools.apikit.misc.FlowNameUtils.encodeColons;
+import static org.mule.tools.apikit.misc.FlowNameUtils.encodeResource;
 
 public class GenerationModel implements Comparable<GenerationModel> {
 
@@ -39,8 +36,10 @@ public class GenerationModel implements Comparable<GenerationModel> {
   private final Resource resource;
   private final String mimeType;
   private final String version;
-  private final List<String> splitPath;
+  private final ResourcePath path;
   private final ApikitMainFlowContainer api;
+  private String name;
+  private volatile FlowName flowName;
 
   public GenerationModel(ApikitMainFlowContainer api, String version, Resource resource, Action action) {
     this(api, version, resource, action, null);
@@ -56,14 +55,10 @@ public class GenerationModel implements Comparable<GenerationModel> {
 
     this.resource = resource;
     this.action = action;
-    this.splitPath = new ArrayList<>(Arrays.asList(this.resource.getResolvedUri(version).split("/")));
+    this.path = ResourcePath.parse(this.resource.getResolvedUri(version));
     this.verb = action.getType().toString();
     this.mimeType = mimeType;
     this.version = version;
-    if (!splitPath.isEmpty()) {
-      splitPath.remove(0);
-      splitPath.remove(0);
-    }
   }
 
   public String getVerb() {
@@ -156,14 +151,26 @@ public class GenerationModel implements Comparable<GenerationModel> {
     return action;
   }
 
+  /**
+   * @return name of the operation, built on first use as it only depends on the operation itself
+   */
   public String getName() {
+    String name = this.name;
+    if (name == null) {
+      name = buildName();
+      this.name = name;
+    }
+    return name;
+  }
+
+  private String buildName() {
     StringBuilder name = new StringBuilder();
     name.append(this.getStringFromActionType());
     String resourceName = this.resource.getDisplayName();
 
     if (resourceName == null) {
-      StringBuffer buff = new StringBuffer();
-      for (String i : this.splitPath) {
+      StringBuilder buff = new StringBuilder();
+      for (String i : this.path.getRelativeSegments()) {
         buff.append(StringUtils.capitalize(i));
       }
       resourceName = buff.toString();
@@ -173,10 +180,8 @@ public class GenerationModel implements Comparable<GenerationModel> {
 
     if (this.mimeType != null) {
       MediaType mediaType = parse(mimeType);
-      StringBuffer buff = new StringBuffer();
-      buff.append(StringUtils.capitalize(mediaType.getPrimaryType()));
-      buff.append(StringUtils.capitalize(mediaType.getSubType()));
-      name.append(buff.toString());
+      name.append(StringUtils.capitalize(mediaType.getPrimaryType()));
+      name.append(StringUtils.capitalize(mediaType.getSubType()));
     }
 
     return name.toString().replace(" ", "");
@@ -186,8 +191,16 @@ public class GenerationModel implements Comparable<GenerationModel> {
     return mimeType;
   }
 
+  public String getVersion() {
+    return version;
+  }
+
   public String getRelativeURI() {
-    return "/" + StringUtils.join(splitPath.toArray(), "/");
+    return path.getRelativeUri();
+  }
+
+  public ResourcePath getPath() {
+    return path;
   }
 
   public Resource getResource() {
@@ -198,23 +211,36 @@ public class GenerationModel implements Comparable<GenerationModel> {
     return api;
   }
 
+  /**
+   * @return name of the flow of the operation, built again only when the name of the APIKit configuration changes
+   */
   public String getFlowName() {
+    String configName = api.getConfig() != null ? api.getConfig().getName() : null;
+    FlowName flowName = this.flowName;
+    if (flowName == null || !Objects.equals(flowName.configName, configName)) {
+      flowName = new FlowName(configName, buildFlowName(configName));
+      this.flowName = flowName;
+    }
+    return flowName.value;
+  }
+
+  private String buildFlowName(String configName) {
     StringBuilder flowName = new StringBuilder();
-    flowName.append(action.getType().toString().toLowerCase())
+    flowName.append(encode(action.getType().toString().toLowerCase()))
         .append(FLOW_NAME_SEPARATOR)
-        .append(encodeColons(resource.getResolvedUri(version)));
+        .append(encodeResource(resource.getResolvedUri(version)));
 
     if (mimeType != null) {
       flowName.append(FLOW_NAME_SEPARATOR)
-          .append(mimeType);
+          .append(encode(mimeType));
     }
 
 
-    if (api.getConfig() != null && !StringUtils.isEmpty(api.getConfig().getName())) {
+    if (!StringUtils.isEmpty(configName)) {
       flowName.append(FLOW_NAME_SEPARATOR)
-          .append(api.getConfig().getName());
+          .append(encode(configName));
     }
-    return encode(flowName.toString());
+    return flowName.toString();
   }
 
   @Override
@@ -222,18 +248,21 @@ public class GenerationModel implements Comparable<GenerationModel> {
     return this.getName().compareTo(generationModel.getName());
   }
 
+  /**
+   * @return names of the URI parameters of the resource, in the order they appear in its URI
+   */
   public List<String> getUriParameters() {
-    action.getResolvedUriParameters();
-    Pattern uriParamsPattern = Pattern.compile("\\{([^}]+)\\}");
-    List<String> result = new ArrayList<>();
-    String path = resource.getResolvedUri(version);
-
-    Matcher matcher = uriParamsPattern.matcher(path);
-    while (matcher.find()) {
-      result.add(matcher.group(1));
-    }
-
-    return result;
+    return path.getParameterNames();
   }
 
+  private static class FlowName {
+
+    private final String configName;
+    private final String value;
+
+    FlowName(String configName, String value) {
+      this.configName = configName;
+      this.value = value;
+    }
+  }
 }
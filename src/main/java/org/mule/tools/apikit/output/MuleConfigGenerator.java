@@ -12,6 +12,10 @@ import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
 import org.mule.tools.apikit.misc.APIKitTools;
+import org.mule.tools.apikit.misc.DataWeaveExampleCache;
+import org.mule.tools.apikit.misc.ExampleUtils;
+import org.mule.tools.apikit.misc.ParallelUtils;
+import org.mule.tools.apikit.misc.ScaffoldingMetricsRecorder;
 import org.mule.tools.apikit.model.APIKitConfig;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.model.Flow;
@@ -24,6 +28,7 @@ import org.mule.tools.apikit.output.scopes.FlowScope;
 import org.mule.tools.apikit.output.scopes.MuleScope;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +42,7 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.mule.tools.apikit.model.MuleConfigBuilder.fromDoc;
 import static org.mule.tools.apikit.model.RuntimeEdition.EE;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.FLOW_RENDERING;
 
 public class MuleConfigGenerator {
 
@@ -73,6 +79,7 @@ public class MuleConfigGenerator {
   private List<MuleConfig> muleConfigsInApp = new ArrayList<>();
   private ScaffolderContext scaffolderContext;
   private boolean showConsole;
+  private final ScaffoldingMetricsRecorder metrics;
 
   /**
    * @param apiContainers Information about APIs being scaffolded
@@ -83,11 +90,27 @@ public class MuleConfigGenerator {
    */
   public MuleConfigGenerator(List<ApikitMainFlowContainer> apiContainers, List<GenerationModel> flowEntriesDiff,
                              List<MuleConfig> muleConfigsInApp, ScaffolderContext scaffolderContext, boolean includeConsole) {
+    this(apiContainers, flowEntriesDiff, muleConfigsInApp, scaffolderContext, includeConsole,
+         ScaffoldingMetricsRecorder.disabled());
+  }
+
+  /**
+   * @param apiContainers Information about APIs being scaffolded
+   * @param flowEntriesDiff New flows that needs to be added
+   * @param muleConfigsInApp Pre-existing Mule configurations
+   * @param scaffolderContext Scaffolder context information
+   * @param includeConsole Whether console should be included or not
+   * @param metrics Recorder of the time spent rendering each flow
+   */
+  public MuleConfigGenerator(List<ApikitMainFlowContainer> apiContainers, List<GenerationModel> flowEntriesDiff,
+                             List<MuleConfig> muleConfigsInApp, ScaffolderContext scaffolderContext, boolean includeConsole,
+                             ScaffoldingMetricsRecorder metrics) {
     this.apiContainers = apiContainers;
     this.flowEntriesDiff = flowEntriesDiff;
     this.muleConfigsInApp.addAll(muleConfigsInApp);
     this.scaffolderContext = scaffolderContext;
     this.showConsole = includeConsole;
+    this.metrics = metrics;
   }
 
   /**
@@ -135,8 +158,48 @@ public class MuleConfigGenerator {
    */
   private void generateMissingFlowEntriesInMuleConfigs() {
     if (!flowEntriesDiff.isEmpty()) {
-      flowEntriesDiff.forEach(this::generateFlowEntryInMuleConfig);
+      List<Element> apikitFlowScopes = renderFlowEntries();
+      for (int i = 0; i < flowEntriesDiff.size(); i++) {
+        generateFlowEntryInMuleConfig(flowEntriesDiff.get(i), apikitFlowScopes.get(i));
+      }
+    }
+  }
+
+  /**
+   * Renders the flows of every generation model. Flows are independent of each other, so when the context allows it they are
+   * rendered concurrently; the result keeps the order of the generation models either way.
+   *
+   * @return rendered flows, in the same order as the generation models
+   */
+  private List<Element> renderFlowEntries() {
+    Map<String, String> dataWeaveExpressions = convertExamplesToDataWeave();
+    return ParallelUtils.map(flowEntriesDiff, flowEntry -> renderFlowEntry(flowEntry, dataWeaveExpressions),
+                             scaffolderContext.getParallelism());
+  }
+
+  private Element renderFlowEntry(GenerationModel flowEntry, Map<String, String> dataWeaveExpressions) {
+    return metrics.record(FLOW_RENDERING, () -> new APIKitFlowScope(flowEntry, isMuleEE(), dataWeaveExpressions).generate());
+  }
+
+  /**
+   * Converts the examples of every flow to DataWeave at once, only EE flows transform their examples.
+   *
+   * @return DataWeave expression text of the examples, keyed by example
+   */
+  private Map<String, String> convertExamplesToDataWeave() {
+    if (!isMuleEE()) {
+      return Collections.emptyMap();
+    }
+    List<String> examples = new ArrayList<>();
+    for (GenerationModel flowEntry : flowEntriesDiff) {
+      String example = flowEntry.getExampleWrapper();
+      if (example != null) {
+        examples.add(example);
+      }
     }
+    DataWeaveExampleCache exampleCache = scaffolderContext.getExampleCache();
+    return exampleCache != null ? ExampleUtils.getDataWeaveExpressionTexts(examples, exampleCache)
+        : ExampleUtils.getDataWeaveExpressionTexts(examples);
   }
 
   /**
@@ -149,7 +212,7 @@ public class MuleConfigGenerator {
     List<Element> apikitConfigElements;
     String apikitConfigName;
     for (MuleConfig muleConfig : muleConfigsInApp) {
-      apikitConfigElements = getApikitConfigDocumentElement(muleConfig);
+      apikitConfigElements = getApikitConfigDocumentElement(muleConfig.getContentOutline());
       if (isEmpty(apikitConfigElements)) {
         continue;
       }
@@ -218,9 +281,11 @@ public class MuleConfigGenerator {
    */
   private MuleConfig getUpdatedMuleConfig(MuleConfig muleConfig, Element newApikitConfigFromApi) {
     MuleConfig updatedMuleConfig = null;
-    List<Element> preExistingApikitConfigs = getApikitConfigDocumentElement(muleConfig);
-    for (Element preExistingApikitConfig : preExistingApikitConfigs) {
-      if (shouldUpdateApikitConfig(newApikitConfigFromApi, preExistingApikitConfig)) {
+    // the outline keeps every apikit:config in place, so the configuration is only loaded when one of them has to be replaced
+    List<Element> preExistingApikitConfigs = new ArrayList<>(getApikitConfigDocumentElement(muleConfig.getContentOutline()));
+    for (int i = 0; i < preExistingApikitConfigs.size(); i++) {
+      if (shouldUpdateApikitConfig(newApikitConfigFromApi, preExistingApikitConfigs.get(i))) {
+        Element preExistingApikitConfig = getApikitConfigDocumentElement(muleConfig.getContentAsDocument()).get(i);
         replaceExistingConfigWithNew(newApikitConfigFromApi, preExistingApikitConfig, muleConfig);
         updatedMuleConfig = muleConfig;
       }
@@ -242,12 +307,12 @@ public class MuleConfigGenerator {
   }
 
   /**
-   * Generates new flows based on the generation models previously created. Also updates apikit configuration in case needed.
+   * Adds a flow generated from the generation models previously created to the Mule configuration of its API.
    *
-   * @param flowEntry new flow to be generated
+   * @param flowEntry generation model of the new flow
+   * @param apikitFlowScope new flow
    */
-  private void generateFlowEntryInMuleConfig(GenerationModel flowEntry) {
-    Element apikitFlowScope = new APIKitFlowScope(flowEntry, isMuleEE()).generate();
+  private void generateFlowEntryInMuleConfig(GenerationModel flowEntry, Element apikitFlowScope) {
     MuleConfig mainMuleConfig = flowEntry.getApi().getMuleConfig();
     mainMuleConfig.getContentAsDocument().getRootElement().getContent().add(apikitFlowScope);
     mainMuleConfig.addFlow(new Flow(apikitFlowScope));
@@ -270,11 +335,11 @@ public class MuleConfigGenerator {
   /**
    * Returns the children elements of type apikit:config from the configuration
    *
-   * @param config
+   * @param document content or outline of a Mule configuration
    * @return list of apikit:config elements
    */
-  private List<Element> getApikitConfigDocumentElement(MuleConfig config) {
-    return config.getContentAsDocument().getRootElement().getChildren("config", APIKitTools.API_KIT_NAMESPACE.getNamespace());
+  private List<Element> getApikitConfigDocumentElement(Document document) {
+    return document.getRootElement().getChildren("config", APIKitTools.API_KIT_NAMESPACE.getNamespace());
   }
 
   /**
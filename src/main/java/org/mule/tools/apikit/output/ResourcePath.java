@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.output;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolved URI of a resource split into its segments and URI parameters, parsed once per {@link GenerationModel}.
+ */
+public final class ResourcePath {
+
+  private static final Pattern URI_PARAMETER = Pattern.compile("\\{([^}]+)\\}");
+
+  private final String uri;
+  private final List<String> segments;
+  private final List<UriParameter> parameters;
+  private final List<String> parameterNames;
+  private final String relativeUri;
+
+  private ResourcePath(String uri) {
+    this.uri = uri;
+    List<String> parts = Arrays.asList(uri.split("/"));
+    this.segments = Collections.unmodifiableList(parts.subList(Math.min(1, parts.size()), parts.size()));
+
+    List<UriParameter> parameters = new ArrayList<>();
+    List<String> parameterNames = new ArrayList<>();
+    Matcher matcher = URI_PARAMETER.matcher(uri);
+    int segment = -1;
+    int scanned = 0;
+    while (matcher.find()) {
+      for (; scanned < matcher.start(); scanned++) {
+        if (uri.charAt(scanned) == '/') {
+          segment++;
+        }
+      }
+      parameters.add(new UriParameter(matcher.group(1), segment));
+      parameterNames.add(matcher.group(1));
+    }
+    this.parameters = Collections.unmodifiableList(parameters);
+    this.parameterNames = Collections.unmodifiableList(parameterNames);
+    this.relativeUri = "/" + String.join("/", getRelativeSegments());
+  }
+
+  /**
+   * @param uri resolved URI of a resource, such as {@code /api/pets/{petId}}
+   */
+  public static ResourcePath parse(String uri) {
+    return new ResourcePath(uri);
+  }
+
+  public String getUri() {
+    return uri;
+  }
+
+  /**
+   * @return segments of the URI after its leading slash
+   */
+  public List<String> getSegments() {
+    return segments;
+  }
+
+  /**
+   * @return segments of the URI after the first one, from which the relative URI and the name of an operation are built
+   */
+  public List<String> getRelativeSegments() {
+    return segments.subList(Math.min(1, segments.size()), segments.size());
+  }
+
+  public String getRelativeUri() {
+    return relativeUri;
+  }
+
+  /**
+   * @return URI parameters in the order they appear in the URI
+   */
+  public List<UriParameter> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * @return names of the URI parameters in the order they appear in the URI
+   */
+  public List<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  public static final class UriParameter {
+
+    private final String name;
+    private final int segment;
+
+    UriParameter(String name, int segment) {
+      this.name = name;
+      this.segment = segment;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return position in {@link ResourcePath#getSegments()} of the segment declaring the parameter
+     */
+    public int getSegment() {
+      return segment;
+    }
+  }
+}
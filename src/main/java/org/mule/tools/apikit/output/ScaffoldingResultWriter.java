@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.output;
+
+import org.apache.commons.io.IOUtils;
+import org.mule.tools.apikit.misc.ParallelUtils;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.ScaffolderResource;
+import org.mule.tools.apikit.model.ScaffoldingResult;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes the configurations and resources of a {@link ScaffoldingResult} to disk, several files at the same time when the
+ * parallelism allows it.
+ * <p>
+ * Every file is written to a temporary file first, computing its SHA-256 on the way. If the existing file has the same content it
+ * is left untouched, so that its modification time only changes when scaffolding actually changed it; otherwise it is replaced
+ * atomically. Replaced files keep their permissions, and new ones get the default ones, as set by the umask.
+ */
+public class ScaffoldingResultWriter {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int parallelism;
+
+  /**
+   * @param parallelism maximum number of files written at the same time
+   */
+  public ScaffoldingResultWriter(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be greater than zero but was " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Writes the generated configurations and resources. Resources created from a stream are consumed, as their content can only be
+   * read once.
+   *
+   * @param result result of a scaffolding run
+   * @param configsDirectory directory where configurations are written, by name
+   * @param resourcesDirectory directory where resources are written, under their own directory
+   * @return files whose content changed, in the same order as the result lists them
+   */
+  public List<Path> write(ScaffoldingResult result, Path configsDirectory, Path resourcesDirectory) throws IOException {
+    List<Output> outputs = new ArrayList<>();
+    for (MuleConfig config : result.getGeneratedConfigs()) {
+      outputs.add(new Output(configsDirectory.resolve(config.getName()), config::writeTo));
+    }
+    for (ScaffolderResource resource : result.getGeneratedResources()) {
+      Path directory = resource.getDirectory() != null ? resourcesDirectory.resolve(resource.getDirectory()) : resourcesDirectory;
+      outputs.add(new Output(directory.resolve(resource.getName()), outputStream -> {
+        try (InputStream content = resource.getContent()) {
+          IOUtils.copy(content, outputStream);
+        }
+      }));
+    }
+
+    List<Boolean> changed;
+    try {
+      changed = ParallelUtils.map(outputs, output -> {
+        try {
+          return write(output);
+        } catch (IOException e) {
+          throw new UncheckedIOException("Cannot write " + output.file, e);
+        }
+      }, parallelism);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    List<Path> changedFiles = new ArrayList<>();
+    for (int i = 0; i < outputs.size(); i++) {
+      if (changed.get(i)) {
+        changedFiles.add(outputs.get(i).file);
+      }
+    }
+    return changedFiles;
+  }
+
+  /**
+   * @return whether the file was written, false if it already had the same content
+   */
+  private static boolean write(Output output) throws IOException {
+    Path directory = output.file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporaryFile = createTemporaryFile(directory, output.file.getFileName().toString());
+    try {
+      MessageDigest digest = newDigest();
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+          OutputStream outputStream =
+              new DigestOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), digest)) {
+        output.content.writeTo(outputStream);
+      }
+      if (Files.isRegularFile(output.file) && Files.size(output.file) == Files.size(temporaryFile)
+          && Arrays.equals(digest.digest(), hash(output.file))) {
+        return false;
+      }
+      copyPermissions(output.file, temporaryFile);
+      Files.move(temporaryFile, output.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Unlike {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute[])}, which restricts the file
+   * to its owner, the file is created with default permissions, as the file it replaces would be.
+   */
+  private static Path createTemporaryFile(Path directory, String name) throws IOException {
+    while (true) {
+      Path temporaryFile =
+          directory.resolve("." + name + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+      try {
+        return Files.createFile(temporaryFile);
+      } catch (FileAlreadyExistsException e) {
+        // another file got the same name, try another one
+      }
+    }
+  }
+
+  private static void copyPermissions(Path source, Path target) throws IOException {
+    if (Files.isRegularFile(source) && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+      Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+  }
+
+  private static byte[] hash(Path file) throws IOException {
+    MessageDigest digest = newDigest();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return digest.digest();
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private interface Content {
+
+    void writeTo(OutputStream outputStream) throws IOException;
+  }
+
+  private static class Output {
+
+    private final Path file;
+    private final Content content;
+
+    Output(Path file, Content content) {
+      this.file = file;
+      this.content = content;
+    }
+  }
+}
@@ -12,7 +12,9 @@ import org.mule.tools.apikit.misc.ExampleUtils;
 import org.mule.tools.apikit.output.GenerationModel;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mule.tools.apikit.output.MuleConfigGenerator.DOC_NAMESPACE;
 import static org.mule.tools.apikit.output.MuleConfigGenerator.EE_NAMESPACE;
@@ -21,6 +23,7 @@ import static org.mule.tools.apikit.output.MuleConfigGenerator.XMLNS_NAMESPACE;
 public class APIKitFlowScope implements Scope {
 
   private final Element flow;
+  private final Map<String, String> dataWeaveExpressions;
 
   private static final String LOGGER_ATTRIBUTE_LEVEL = "level";
   private static final String LOGGER_ATTRIBUTE_MESSAGE = "message";
@@ -31,13 +34,25 @@ public class APIKitFlowScope implements Scope {
   }
 
   public APIKitFlowScope(GenerationModel flowEntry, boolean isMuleEE) {
+    this(flowEntry, isMuleEE, Collections.emptyMap());
+  }
+
+  /**
+   * @param flowEntry generation model of the flow
+   * @param isMuleEE whether the flow is generated for Mule EE
+   * @param dataWeaveExpressions examples already converted to DataWeave, keyed by example. Examples not found here are converted
+   *        when the flow is generated.
+   */
+  public APIKitFlowScope(GenerationModel flowEntry, boolean isMuleEE, Map<String, String> dataWeaveExpressions) {
+    this.dataWeaveExpressions = dataWeaveExpressions;
     flow = new Element("flow", XMLNS_NAMESPACE.getNamespace());
     flow.setAttribute("name", flowEntry.getFlowName());
 
-    if (isMuleEE && !flowEntry.getUriParameters().isEmpty())
-      flow.addContent(createEEUriParamsSetVariables(flowEntry));
-    else if (!isMuleEE && !flowEntry.getUriParameters().isEmpty()) {
-      for (Element element : createCEUriParamsSetVariables(flowEntry)) {
+    List<String> uriParameters = flowEntry.getUriParameters();
+    if (isMuleEE && !uriParameters.isEmpty())
+      flow.addContent(createEEUriParamsSetVariables(uriParameters));
+    else if (!isMuleEE && !uriParameters.isEmpty()) {
+      for (Element element : createCEUriParamsSetVariables(uriParameters)) {
         flow.addContent(element);
       }
     }
@@ -78,13 +93,13 @@ public class APIKitFlowScope implements Scope {
     return logger;
   }
 
-  private Element createEEUriParamsSetVariables(GenerationModel flowEntry) {
+  private Element createEEUriParamsSetVariables(List<String> uriParameters) {
     Element transform = new Element("transform", EE_NAMESPACE.getNamespace());
     transform.setAttribute("name", "Transform Message", DOC_NAMESPACE.getNamespace());
 
     Element variables = new Element("variables", EE_NAMESPACE.getNamespace());
 
-    for (String uriParameter : flowEntry.getUriParameters()) {
+    for (String uriParameter : uriParameters) {
       Element setVariable = new Element("set-variable", EE_NAMESPACE.getNamespace());
       setVariable.setAttribute("variableName", uriParameter);
       setVariable.addContent("attributes.uriParams.'" + uriParameter + "'");
@@ -97,9 +112,9 @@ public class APIKitFlowScope implements Scope {
     return transform;
   }
 
-  private List<Element> createCEUriParamsSetVariables(GenerationModel flowEntry) {
+  private List<Element> createCEUriParamsSetVariables(List<String> uriParameters) {
     List<Element> result = new ArrayList<>();
-    for (String uriParameter : flowEntry.getUriParameters()) {
+    for (String uriParameter : uriParameters) {
       Element element = new Element("set-variable", XMLNS_NAMESPACE.getNamespace());
       element.setAttribute("value", "#[attributes.uriParams.'" + uriParameter + "']");
       element.setAttribute("variableName", uriParameter);
@@ -109,7 +124,8 @@ public class APIKitFlowScope implements Scope {
   }
 
   private String generateTransformTextForExample(String example) {
-    return ExampleUtils.getDataWeaveExpressionText(example);
+    String dataWeaveExpression = dataWeaveExpressions.get(example);
+    return dataWeaveExpression != null ? dataWeaveExpression : ExampleUtils.getDataWeaveExpressionText(example);
   }
 
   @Override
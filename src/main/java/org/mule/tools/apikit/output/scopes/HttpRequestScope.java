@@ -6,10 +6,10 @@
  */
 package org.mule.tools.apikit.output.scopes;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.jdom2.Element;
 import org.mule.apikit.model.parameter.Parameter;
+import org.mule.tools.apikit.misc.ExampleParsers;
 import org.mule.tools.apikit.output.GenerationModel;
 
 import java.util.HashMap;
@@ -64,7 +64,7 @@ public class HttpRequestScope implements Scope {
 
       if (!headers.isEmpty()) {
         Element element = new Element("headers", HTTP_NAMESPACE.getNamespace());
-        element.addContent(wrapInExpression(new ObjectMapper().disableDefaultTyping().writeValueAsString(headers)));
+        element.addContent(wrapInExpression(ExampleParsers.writeAsJSON(headers)));
         request.addContent(element);
       }
     } catch (Exception e) {
@@ -121,7 +121,7 @@ public class HttpRequestScope implements Scope {
             .filter((queryParam) -> queryParam.getValue().isRequired())
             .collect(toMap(Map.Entry::getKey, this::getQueryParameterValue));
 
-        element.addContent(wrapInExpression(new ObjectMapper().disableDefaultTyping().writeValueAsString(queryParams)));
+        element.addContent(wrapInExpression(ExampleParsers.writeAsJSON(queryParams)));
 
         request.addContent(element);
         return true;
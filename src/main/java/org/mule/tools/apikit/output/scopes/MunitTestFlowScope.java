@@ -6,7 +6,6 @@
  */
 package org.mule.tools.apikit.output.scopes;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.commons.io.IOUtils;
@@ -17,12 +16,12 @@ import org.mule.apikit.model.MimeType;
 import org.mule.apikit.model.Resource;
 import org.mule.apikit.model.Response;
 import org.mule.apikit.model.parameter.Parameter;
+import org.mule.tools.apikit.misc.ExampleParsers;
 import org.mule.tools.apikit.misc.FlowNameUtils;
 import org.mule.tools.apikit.misc.TestResourceNameGenerator;
 import org.mule.tools.apikit.model.ScaffolderResource;
 import org.mule.tools.apikit.output.GenerationModel;
 import org.mule.tools.apikit.schemas.JsonSchemaDataGenerator;
-import org.yaml.snakeyaml.Yaml;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -76,20 +75,19 @@ public class MunitTestFlowScope {
       if (null != responseBodies && !responseBodies.isEmpty()) {
         for (Map.Entry<String, MimeType> body : responseBodies.entrySet()) {
           String mimeType = body.getKey();
-          String examplePayload = buildExamplePayload(body.getValue());
 
-          Element testFlow = generateTest(flowEntry, statusCode, mimeType, examplePayload);
+          Element testFlow = generateTest(flowEntry, statusCode, mimeType, body.getValue());
 
           elements.add(testFlow);
         }
       } else {
-        Element testFlow = generateTest(flowEntry, statusCode, "", "");
+        Element testFlow = generateTest(flowEntry, statusCode, "", null);
         elements.add(testFlow);
       }
     }
 
     if (flowIResponses.isEmpty()) {
-      Element testFlow = generateTest(flowEntry, "", "", "");
+      Element testFlow = generateTest(flowEntry, "", "", null);
       elements.add(testFlow);
     }
 
@@ -100,7 +98,7 @@ public class MunitTestFlowScope {
     this.createResourceFiles = createResourceFiles;
   }
 
-  private String buildExamplePayload(MimeType response) {
+  private static String buildExamplePayload(MimeType response) {
     String examplePayload = response.getExample() == null ? StringUtils.EMPTY : response.getExample();
 
     if (isBlank(examplePayload)) {
@@ -128,9 +126,7 @@ public class MunitTestFlowScope {
 
   private static String transformYamlExampleIntoJSON(String example) {
     try {
-      Yaml yaml = new Yaml();
-      Object yamlObject = yaml.load(example);
-      return new ObjectMapper().disableDefaultTyping().writeValueAsString(yamlObject);
+      return ExampleParsers.writeAsJSON(ExampleParsers.loadYaml(example));
 
     } catch (Throwable e) {
       // If example couldn't have been processed, we return a null JSON.
@@ -138,7 +134,7 @@ public class MunitTestFlowScope {
     }
   }
 
-  private Element generateTest(GenerationModel flowEntry, String statusCode, String mimeType, String examplePayload) {
+  private Element generateTest(GenerationModel flowEntry, String statusCode, String mimeType, MimeType example) {
 
     Element testFlow = generateMunitTestFlow(flowEntry, statusCode, mimeType);
 
@@ -148,7 +144,7 @@ public class MunitTestFlowScope {
 
     generateExecutionSection(flowEntry, statusCode, mimeType, testFlow, uri);
 
-    generateValidationSection(flowEntry, statusCode, mimeType, examplePayload, testFlow);
+    generateValidationSection(flowEntry, statusCode, mimeType, example, testFlow);
 
     return testFlow;
   }
@@ -187,14 +183,14 @@ public class MunitTestFlowScope {
     }
   }
 
-  private void generateValidationSection(GenerationModel flowEntry, String statusCode, String mimeType, String examplePayload,
+  private void generateValidationSection(GenerationModel flowEntry, String statusCode, String mimeType, MimeType example,
                                          Element flow) {
     Element validation = new Element("validation", MUNIT_NAMESPACE.getNamespace());
 
     addAssertTrueStatusCode(validation, statusCode);
 
     if (!isBlank(mimeType)) {
-      addAssertOnEqualsPayload(validation, flowEntry, examplePayload, mimeType, statusCode);
+      addAssertOnEqualsPayload(validation, flowEntry, example, mimeType, statusCode);
     }
     if (!validation.getChildren().isEmpty()) {
       flow.addContent(validation);
@@ -287,18 +283,20 @@ public class MunitTestFlowScope {
         request = requests.get(requests.keySet().iterator().next());
       }
 
-      String requestPayload = buildExamplePayload(request);
-      addSetPayload(flow, buildSetPayloadContent(flowEntry, requestPayload, requestType));
+      addSetPayload(flow, buildSetPayloadContent(flowEntry, request, requestType));
     }
   }
 
-  private String buildSetPayloadContent(GenerationModel flowEntry, String requestPayload, String requestType) {
-    String setPayloadContent = String.format("'%s'", requestPayload);
+  private String buildSetPayloadContent(GenerationModel flowEntry, MimeType request, String requestType) {
+    String setPayloadContent;
     if (createResourceFiles) {
       String fileName = TestResourceNameGenerator.generate(flowEntry, requestType, "");
-      ScaffolderResource resource = new ScaffolderResource(REQUEST_DIRECTORY, fileName, IOUtils.toInputStream(requestPayload));
+      ScaffolderResource resource = new ScaffolderResource(REQUEST_DIRECTORY, fileName,
+                                                           () -> IOUtils.toInputStream(buildExamplePayload(request)));
       generatedResources.add(resource);
       setPayloadContent = buildGetResourceFunction(resource);
+    } else {
+      setPayloadContent = String.format("'%s'", buildExamplePayload(request));
     }
 
     return "#[" + setPayloadContent + "]";
@@ -334,13 +332,12 @@ public class MunitTestFlowScope {
     flow.addContent(element);
   }
 
-  private void addAssertOnEqualsPayload(Element flow, GenerationModel flowEntry, String expectedPayload, String mimeType,
+  private void addAssertOnEqualsPayload(Element flow, GenerationModel flowEntry, MimeType example, String mimeType,
                                         String statusCode) {
     Element element = new Element("assert-that", MUNIT_TOOLS_NAMESPACE.getNamespace());
 
-    expectedPayload = isBlank(expectedPayload) ? "" : expectedPayload.trim();
     element.setAttribute("expression", wrapInWriteToString("payload", mimeType));
-    element.setAttribute("is", wrapInEqualTo(buildExpectedContent(flowEntry, expectedPayload, mimeType, statusCode)));
+    element.setAttribute("is", wrapInEqualTo(buildExpectedContent(flowEntry, example, mimeType, statusCode)));
     element.setAttribute("message", "The response payload is not correct!");
 
     String displayName = "Assert That - Payload is Expected";
@@ -349,15 +346,20 @@ public class MunitTestFlowScope {
     flow.addContent(element);
   }
 
-  private String buildExpectedContent(GenerationModel flowEntry, String payload, String mimeType, String statusCode) {
-    String expectedContent = String.format("'%s'", payload);
+  private String buildExpectedContent(GenerationModel flowEntry, MimeType example, String mimeType, String statusCode) {
     if (createResourceFiles) {
       String fileName = TestResourceNameGenerator.generate(flowEntry, mimeType, statusCode);
-      ScaffolderResource resource = new ScaffolderResource(RESPONSE_DIRECTORY, fileName, IOUtils.toInputStream(payload));
+      ScaffolderResource resource = new ScaffolderResource(RESPONSE_DIRECTORY, fileName,
+                                                           () -> IOUtils.toInputStream(buildExpectedPayload(example)));
       generatedResources.add(resource);
-      expectedContent = buildGetResourceFunction(resource);
+      return buildGetResourceFunction(resource);
     }
-    return expectedContent;
+    return String.format("'%s'", buildExpectedPayload(example));
+  }
+
+  private static String buildExpectedPayload(MimeType example) {
+    String payload = example == null ? "" : buildExamplePayload(example);
+    return isBlank(payload) ? "" : payload.trim();
   }
 
   private boolean isUpdateAction(ActionType type) {
@@ -6,12 +6,19 @@
  */
 package org.mule.tools.apikit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mule.tools.apikit.Helper.testEqualsHelper;
 
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.model.APIFactory;
+import org.mule.tools.apikit.model.HttpListenerConfig;
+import org.mule.tools.apikit.model.HttpListenerConnection;
+import org.mule.tools.apikit.model.ListenerPortAllocator;
+import org.mule.tools.apikit.model.ListenerPortAllocator.PortRange;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
@@ -46,4 +53,66 @@ public class APITest {
                      APITest.class.getMethod("createFileB"),
                      APITest.class.getMethod("createAPIBinding", File.class));
   }
+
+  @Test
+  public void apisWithTheSameNameGetTheirOwnIdAndPort() {
+    APIFactory apiFactory = new APIFactory(Collections.emptyList());
+    for (int i = 1; i <= 100; i++) {
+      ApikitMainFlowContainer api = apiFactory.createAPIBindingInboundEndpoint("v" + i + "/api.raml", null, "/api/*", null);
+
+      assertEquals(i == 1 ? "api" : "api-" + i, api.getId());
+      assertEquals(String.valueOf(8080 + i), api.getHttpListenerConfig().getPort());
+    }
+    assertEquals(100, apiFactory.getHttpListenerConfigs().size());
+  }
+
+  @Test
+  public void apisWithDifferentPathsShareTheListenerWithTheLowestPort() {
+    HttpListenerConfig high = listenerConfig("high", "9090");
+    HttpListenerConfig placeholder = listenerConfig("placeholder", "${http.port}");
+    HttpListenerConfig low = listenerConfig("low", "8081");
+    APIFactory apiFactory = new APIFactory(Arrays.asList(high, placeholder, low));
+
+    assertSame(low, apiFactory.createAPIBindingInboundEndpoint("a.raml", null, "/a/*", null).getHttpListenerConfig());
+    assertSame(low, apiFactory.createAPIBindingInboundEndpoint("b.raml", null, "/b/*", null).getHttpListenerConfig());
+    assertSame(high, apiFactory.createAPIBindingInboundEndpoint("c.raml", null, "/a/*", null).getHttpListenerConfig());
+    assertSame(placeholder, apiFactory.createAPIBindingInboundEndpoint("d.raml", null, "/a/*", null).getHttpListenerConfig());
+    assertEquals("9091",
+                 apiFactory.createAPIBindingInboundEndpoint("e.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+  }
+
+  @Test
+  public void newListenersFillTheGapsOfThePortRange() {
+    APIFactory apiFactory = new APIFactory(Arrays.asList(listenerConfig("a", "8081"), listenerConfig("c", "8083")),
+                                           new ListenerPortAllocator(PortRange.of(8081, 8090)));
+
+    assertEquals("8081",
+                 apiFactory.createAPIBindingInboundEndpoint("a.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+    assertEquals("8083",
+                 apiFactory.createAPIBindingInboundEndpoint("b.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+    assertEquals("8082",
+                 apiFactory.createAPIBindingInboundEndpoint("c.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+    assertEquals("8084",
+                 apiFactory.createAPIBindingInboundEndpoint("d.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+  }
+
+  @Test
+  public void listenersAddedToTheListAreUsed() {
+    HttpListenerConfig high = listenerConfig("high", "9090");
+    HttpListenerConfig low = listenerConfig("low", "8081");
+    APIFactory apiFactory = new APIFactory(Collections.emptyList());
+    apiFactory.getHttpListenerConfigs().add(high);
+    apiFactory.getHttpListenerConfigs().add(0, low);
+
+    assertSame(low, apiFactory.createAPIBindingInboundEndpoint("a.raml", null, "/a/*", null).getHttpListenerConfig());
+    apiFactory.getHttpListenerConfigs().remove(high);
+    assertEquals("9091",
+                 apiFactory.createAPIBindingInboundEndpoint("b.raml", null, "/a/*", null).getHttpListenerConfig().getPort());
+  }
+
+  private static HttpListenerConfig listenerConfig(String name, String port) {
+    HttpListenerConnection connection = new HttpListenerConnection.Builder().setHost("0.0.0.0").setPort(port).setProtocol("HTTP")
+        .build();
+    return new HttpListenerConfig(name, "/", connection);
+  }
 }
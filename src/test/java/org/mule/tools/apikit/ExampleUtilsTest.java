@@ -7,8 +7,13 @@
 package org.mule.tools.apikit;
 
 import org.junit.Test;
+import org.mule.tools.apikit.misc.DataWeaveExampleCache;
 import org.mule.tools.apikit.misc.ExampleUtils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
@@ -113,4 +118,31 @@ public class ExampleUtilsTest {
                                                          "                  year: 2016"),
                is("{\"books\":[{\"title\":\"In Cold Blood\",\"author\":\"Truman Capote\",\"year\":1966},{\"title\":\"El Salvaje\",\"author\":\"Guillermo Arriaga\",\"year\":2016}]}"));
   }
+
+  @Test
+  public void batchedDataWeaveConversionMatchesSingleConversion() {
+    List<String> examples = Arrays.asList("{\"name\": \"John\", \"kind\": \"dog\"}",
+                                          "<Pet> <name>John</name> <lastname>Doe</lastname> </Pet>",
+                                          "name: John\nkind: dog",
+                                          "# something clever",
+                                          "[ 1, 2, 3, 14, \"Hello\" ]",
+                                          "{\"name\": \"John\", \"kind\": \"dog\"}");
+    Map<String, String> expressions = ExampleUtils.getDataWeaveExpressionTexts(examples);
+    assertThat(expressions.size(), is(5));
+    for (String example : examples) {
+      assertThat(expressions.get(example), is(ExampleUtils.getDataWeaveExpressionText(example)));
+    }
+  }
+
+  @Test
+  public void cachedDataWeaveConversionIsReused() {
+    DataWeaveExampleCache cache = new DataWeaveExampleCache(10);
+    String example = "name: John\nkind: dog";
+    String expression = ExampleUtils.getDataWeaveExpressionText(example, cache);
+
+    assertThat(expression, is(ExampleUtils.getDataWeaveExpressionText(example)));
+    assertThat(ExampleUtils.getDataWeaveExpressionTexts(Arrays.asList(example), cache).get(example), is(expression));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getHitCount(), is(1L));
+  }
 }
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.apikit.model.ActionType.DELETE;
 import static org.mule.apikit.model.ActionType.GET;
@@ -22,6 +24,7 @@ import org.mule.apikit.model.Action;
 import org.mule.apikit.model.MimeType;
 import org.mule.apikit.model.Resource;
 import org.mule.apikit.model.Response;
+import org.mule.tools.apikit.model.APIKitConfig;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
 import org.mule.tools.apikit.output.GenerationModel;
 
@@ -190,4 +193,36 @@ public class GenerationModelTest {
     ApikitMainFlowContainer api = mock(ApikitMainFlowContainer.class);
     assertEquals("/pet", new GenerationModel(api, VERSION, resource, action).getRelativeURI());
   }
+
+  @Test
+  public void testNameIsBuiltOnce() throws Exception {
+    Action action = mock(Action.class);
+    when(action.getType()).thenReturn(GET);
+    Resource resource = mock(Resource.class);
+    when(resource.getDisplayName()).thenReturn("Animal");
+    when(resource.getResolvedUri(anyString())).thenReturn("/api/pet");
+    GenerationModel model = new GenerationModel(mock(ApikitMainFlowContainer.class), VERSION, resource, action);
+
+    assertEquals("retrieveAnimal", model.getName());
+    assertEquals("retrieveAnimal", model.getName());
+    verify(resource, times(1)).getDisplayName();
+  }
+
+  @Test
+  public void testFlowNameFollowsConfigName() throws Exception {
+    Action action = mock(Action.class);
+    when(action.getType()).thenReturn(GET);
+    Resource resource = mock(Resource.class);
+    when(resource.getResolvedUri(anyString())).thenReturn("/api/pet");
+    ApikitMainFlowContainer api = new ApikitMainFlowContainer("api", "api.raml", null, "/api/*");
+    GenerationModel model = new GenerationModel(api, VERSION, resource, action, "application/json");
+
+    assertEquals("get:\\api\\pet:application\\json", model.getFlowName());
+
+    api.setDefaultAPIKitConfig();
+    assertEquals("get:\\api\\pet:application\\json:api-config", model.getFlowName());
+
+    api.getConfig().setName("renamed-config");
+    assertEquals("get:\\api\\pet:application\\json:renamed-config", model.getFlowName());
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit;
+
+import org.junit.Test;
+import org.mule.tools.apikit.model.ListenerPortAllocator;
+import org.mule.tools.apikit.model.ListenerPortAllocator.PortRange;
+
+import static org.junit.Assert.assertEquals;
+
+public class ListenerPortAllocatorTest {
+
+  @Test
+  public void defaultAllocationStartsAt8081() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(null);
+
+    assertEquals(8081, allocator.allocate());
+    assertEquals(8082, allocator.allocate());
+  }
+
+  @Test
+  public void defaultAllocationGoesAboveTheHighestReservedPort() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(null);
+    allocator.reserve(9000);
+    allocator.reserve(8081);
+
+    assertEquals(9001, allocator.allocate());
+    assertEquals(9002, allocator.allocate());
+  }
+
+  @Test
+  public void rangeAllocationFillsGaps() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(PortRange.of(8081, 8090));
+    allocator.reserve(8081);
+    allocator.reserve(8083);
+    allocator.reserve(8084);
+    allocator.reserve(80);
+
+    assertEquals(8082, allocator.allocate());
+    assertEquals(8085, allocator.allocate());
+    allocator.reserve(8086);
+    assertEquals(8087, allocator.allocate());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void exhaustedRangeIsAnError() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(PortRange.of(8081, 8082));
+    allocator.reserve(8082);
+
+    assertEquals(8081, allocator.allocate());
+    allocator.allocate();
+  }
+
+  @Test
+  public void portsAboveTheMaximumAreIgnored() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(null);
+    allocator.reserve(9000);
+    allocator.reserve(99999999);
+
+    assertEquals(9001, allocator.allocate());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void allocationAboveTheMaximumPortIsAnError() {
+    ListenerPortAllocator allocator = new ListenerPortAllocator(null);
+    allocator.reserve(ListenerPortAllocator.MAX_PORT - 1);
+
+    assertEquals(ListenerPortAllocator.MAX_PORT, allocator.allocate());
+    allocator.allocate();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRangeIsRejected() {
+    PortRange.of(9000, 8000);
+  }
+}
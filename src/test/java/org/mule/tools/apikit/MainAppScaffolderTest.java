@@ -24,18 +24,25 @@ import org.mule.tools.apikit.model.RuntimeEdition;
 import org.mule.tools.apikit.model.ScaffolderContext;
 import org.mule.tools.apikit.model.ScaffolderContextBuilder;
 import org.mule.tools.apikit.model.ScaffoldingConfiguration;
+import org.mule.tools.apikit.model.ScaffoldingMetrics;
+import org.mule.tools.apikit.model.ScaffoldingMetrics.Phase;
 import org.mule.tools.apikit.model.ScaffoldingResult;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeThat;
 import static org.mule.tools.apikit.Helper.countOccurences;
@@ -842,6 +849,30 @@ public class MainAppScaffolderTest extends AbstractScaffolderTestCase {
     testScaffoldTwoApis(testFolder, muleConfigs, null);
   }
 
+  @Test
+  public void testGenerateFromTwoApisInOneRun() throws Exception {
+    final String testFolder = "scaffolder-from-two-apis/simple/";
+    final String basePath = testFolder + "src/main/resources/api/";
+    ParseResult api1 = new ParserService().parse(ApiReference.create(Paths.get(basePath + "api1/api.raml").toString()));
+    ParseResult api2 = new ParserService().parse(ApiReference.create(Paths.get(basePath + "api2/api.raml").toString()));
+    assertTrue(api1.success());
+    assertTrue(api2.success());
+    XMLUnit.setIgnoreWhitespace(true);
+
+    ScaffolderContext context = ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).build();
+    ScaffoldingResult result = new MainAppScaffolder(context).run(ScaffoldingConfiguration.builder()
+        .withApis(Arrays.asList(api1.get(), api2.get())).build());
+
+    // same configurations as scaffolding each API after the other
+    assertTrue(result.isSuccess());
+    assertEquals(2, result.getGeneratedConfigs().size());
+    for (MuleConfig generatedConfig : result.getGeneratedConfigs()) {
+      Diff diff = XMLUnit.compareXML(APIKitTools.readContents(generatedConfig.getContent()),
+                                     getResourceAsString(testFolder + generatedConfig.getName()));
+      assertTrue(generatedConfig.getName(), diff.identical());
+    }
+  }
+
   @Test
   public void testScaffolderRouterWithinTry() throws Exception {
     when()
@@ -853,8 +884,7 @@ public class MainAppScaffolderTest extends AbstractScaffolderTestCase {
 
   private void testScaffoldTwoApis(String testFolder, List<MuleConfig> existingMuleConfigs, MuleDomain domainFile)
       throws Exception {
-    // The new Scaffolder API doesn't support scaffolding more than one ApiSpecification at a time.
-    // If you want to scaffold more than one ApiSpec you have to call the Scaffolder N times.
+    // Scaffolds the APIs one after the other, as separate runs
     final String basePath = testFolder + "src/main/resources/api/";
     final String api1 = basePath + "api1/api.raml";
     final String api2 = basePath + "api2/api.raml";
@@ -1047,6 +1077,78 @@ public class MainAppScaffolderTest extends AbstractScaffolderTestCase {
                                  "post:\\(category)%3A(categoryId)\\resources:application\\xml:resources-including-colon-api"));
   }
 
+  @Test
+  public void metricsAreRecordedOnlyWhenEnabled() throws Exception {
+    ScaffolderContext context = ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).build();
+    MainAppScaffolder mainAppScaffolder = new MainAppScaffolder(context);
+    ParseResult parseResult = new ParserService().parse(ApiReference.create("scaffolder/simpleV10.raml"));
+    assertTrue(parseResult.success());
+
+    ScaffoldingResult withoutMetrics =
+        mainAppScaffolder.run(new ScaffoldingConfiguration.Builder().withApi(parseResult.get()).build());
+    assertTrue(withoutMetrics.isSuccess());
+    assertFalse(withoutMetrics.getMetrics().isPresent());
+
+    ScaffoldingResult withMetrics = mainAppScaffolder
+        .run(new ScaffoldingConfiguration.Builder().withApi(parseResult.get()).withMetricsEnabled(true).build());
+    assertTrue(withMetrics.isSuccess());
+    ScaffoldingMetrics metrics = withMetrics.getMetrics().get();
+    for (Phase phase : Arrays.asList(Phase.API_PARSING, Phase.MULE_CONFIG_PARSING, Phase.GENERATION_STRATEGY,
+                                     Phase.MULE_CONFIG_GENERATION)) {
+      assertEquals(1, metrics.getPhase(phase).getInvocations());
+    }
+    assertEquals(5, metrics.getPhase(Phase.FLOW_RENDERING).getInvocations());
+  }
+
+  @Test
+  public void parallelFlowGenerationKeepsOutputIdentical() throws Exception {
+    ParseResult parseResult = new ParserService().parse(ApiReference.create("scaffolder/multipleMimeTypesV10.raml"));
+    assertTrue(parseResult.success());
+    ScaffoldingConfiguration configuration = new ScaffoldingConfiguration.Builder().withApi(parseResult.get()).build();
+
+    ScaffolderContext sequentialContext = ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).build();
+    ScaffolderContext parallelContext =
+        ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).withParallelism(4).build();
+    ScaffoldingResult sequential = new MainAppScaffolder(sequentialContext).run(configuration);
+    ScaffoldingResult parallel = new MainAppScaffolder(parallelContext).run(configuration);
+
+    assertTrue(sequential.isSuccess());
+    assertTrue(parallel.isSuccess());
+    assertEquals(1, parallel.getGeneratedConfigs().size());
+    assertEquals(APIKitTools.readContents(sequential.getGeneratedConfigs().get(0).getContent()),
+                 APIKitTools.readContents(parallel.getGeneratedConfigs().get(0).getContent()));
+  }
+
+  @Test
+  public void incrementalScaffoldingSkipsUnchangedApi() throws Exception {
+    ScaffolderContext context = ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.EE).build();
+    MainAppScaffolder mainAppScaffolder = new MainAppScaffolder(context);
+    ParseResult parseResult = new ParserService().parse(ApiReference.create("scaffolder/simpleV10.raml"));
+    assertTrue(parseResult.success());
+    Path fingerprintIndex = Files.createTempDirectory("scaffolder").resolve("fingerprints.properties");
+
+    ScaffoldingResult firstRun = mainAppScaffolder.run(new ScaffoldingConfiguration.Builder().withApi(parseResult.get())
+        .withFingerprintIndex(fingerprintIndex).build());
+    assertTrue(firstRun.isSuccess());
+    assertEquals(1, firstRun.getGeneratedConfigs().size());
+    MuleConfig scaffoldedConfig = firstRun.getGeneratedConfigs().get(0);
+
+    MuleConfig existingConfig = MuleConfigBuilder.fromStream(scaffoldedConfig.getContent());
+    existingConfig.setName(scaffoldedConfig.getName());
+    ScaffoldingResult unchangedRun = mainAppScaffolder.run(new ScaffoldingConfiguration.Builder().withApi(parseResult.get())
+        .withMuleConfigurations(Lists.newArrayList(existingConfig)).withFingerprintIndex(fingerprintIndex).build());
+    assertTrue(unchangedRun.isSuccess());
+    assertEquals(0, unchangedRun.getGeneratedConfigs().size());
+
+    ScaffoldingResult configsRemovedRun = mainAppScaffolder.run(new ScaffoldingConfiguration.Builder()
+        .withApi(parseResult.get()).withFingerprintIndex(fingerprintIndex).withMetricsEnabled(true).build());
+    assertTrue(configsRemovedRun.isSuccess());
+    assertEquals(1, configsRemovedRun.getGeneratedConfigs().size());
+    assertEquals(1, configsRemovedRun.getMetrics().get().getPhase(Phase.API_PARSING).getInvocations());
+    assertEquals(APIKitTools.readContents(scaffoldedConfig.getContent()),
+                 APIKitTools.readContents(configsRemovedRun.getGeneratedConfigs().get(0).getContent()));
+  }
+
   private void assertPetApiScaffoldedContent(String content) {
     assertEquals(2, countOccurences(content, "get:\\:simple-config"));
     assertEquals(2, countOccurences(content, "get:\\pet:simple-config"));
@@ -7,6 +7,7 @@
 package org.mule.tools.apikit;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.custommonkey.xmlunit.Diff;
 import org.custommonkey.xmlunit.XMLUnit;
 import org.jdom2.Content;
@@ -27,12 +28,18 @@ import org.mule.tools.apikit.model.MuleConfigBuilder;
 import org.mule.tools.apikit.output.GenerationModel;
 import org.mule.tools.apikit.output.scopes.APIKitFlowScope;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -92,6 +99,27 @@ public class MuleConfigTest {
     input.close();
   }
 
+  @Test
+  public void contentIsOnlyLoadedWhenNeeded() throws Exception {
+    String path = "src/test/resources/test-mule-config/api.xml";
+    InputStream input = new FileInputStream(path);
+    MuleConfig muleConfig = MuleConfigBuilder.fromStream(input);
+    int hashCode = muleConfig.hashCode();
+
+    assertFalse(muleConfig.isContentLoaded());
+    assertEquals(8, muleConfig.getFlows().size());
+    assertEquals(1, muleConfig.getMainFlows().size());
+    assertEquals("api-config", muleConfig.getMainFlows().get(0).getApikitRouter().getContent().getAttributeValue("config-ref"));
+    assertEquals(1, muleConfig.getApikitConfigs().size());
+    assertFalse(muleConfig.isContentLoaded());
+
+    Document content = muleConfig.getContentAsDocument();
+    assertTrue(muleConfig.isContentLoaded());
+    assertSame(content, muleConfig.getContentOutline());
+    assertEquals(8, muleConfig.getFlows().size());
+    assertEquals(hashCode, muleConfig.hashCode());
+  }
+
   @Test
   public void deserializationReturnsSameContent() throws Exception {
     String path = "src/test/resources/test-mule-config/api.xml";
@@ -105,6 +133,24 @@ public class MuleConfigTest {
     assertTrue(diff.identical());
   }
 
+  @Test
+  public void writtenContentIsTheSameAsContent() throws Exception {
+    String path = "src/test/resources/test-mule-config/api.xml";
+    InputStream fileAsInputStream = new FileInputStream(path);
+    MuleConfig muleConfig = MuleConfigBuilder.fromStream(fileAsInputStream);
+
+    byte[] content = IOUtils.toByteArray(muleConfig.getContent());
+    ByteArrayOutputStream writtenToStream = new ByteArrayOutputStream();
+    muleConfig.writeTo(writtenToStream);
+    ByteArrayOutputStream writtenToChannel = new ByteArrayOutputStream();
+    muleConfig.writeTo(Channels.newChannel(writtenToChannel));
+
+    assertArrayEquals(content, writtenToStream.toByteArray());
+    assertArrayEquals(content, writtenToChannel.toByteArray());
+    Diff diff = XMLUnit.compareXML(FileUtils.readFileToString(new File(path)), new String(content, StandardCharsets.UTF_8));
+    assertTrue(diff.identical());
+  }
+
   @Test
   public void buildContentReturnsSameContent() throws Exception {
     String path = "src/test/resources/test-mule-config/api.xml";
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.tools.apikit.model.MuleDomain;
+import org.mule.tools.apikit.model.MuleDomainFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MuleDomainFactoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @After
+  public void tearDown() {
+    MuleDomainFactory.clearCache();
+  }
+
+  @Test
+  public void sharedArtifactIsReadOnce() throws Exception {
+    File artifact = copyArtifact();
+
+    MuleDomain first = MuleDomainFactory.fromDeployableArtifact(artifact);
+
+    assertSame(first, MuleDomainFactory.fromDeployableArtifact(artifact));
+    assertEquals(1, first.getHttpListenerConfigs().size());
+  }
+
+  @Test
+  public void modifiedArtifactIsReadAgain() throws Exception {
+    File artifact = copyArtifact();
+    MuleDomain first = MuleDomainFactory.fromDeployableArtifact(artifact);
+
+    Files.setLastModifiedTime(artifact.toPath(), FileTime.fromMillis(artifact.lastModified() + 60_000));
+    MuleDomain second = MuleDomainFactory.fromDeployableArtifact(artifact);
+
+    assertNotSame(first, second);
+    assertEquals(first.getHttpListenerConfigs(), second.getHttpListenerConfigs());
+  }
+
+  private File copyArtifact() throws Exception {
+    File artifact = new File(folder.getRoot(), "external-domain.jar");
+    Files.copy(Paths.get(getClass().getClassLoader().getResource("custom-domain-4/external-domain.jar").toURI()),
+               artifact.toPath());
+    return artifact;
+  }
+}
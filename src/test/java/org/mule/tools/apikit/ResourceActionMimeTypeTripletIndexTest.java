@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit;
+
+import org.junit.Test;
+import org.mule.tools.apikit.model.ApikitMainFlowContainer;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTripletIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceActionMimeTypeTripletIndexTest {
+
+  private final ApikitMainFlowContainer api = new ApikitMainFlowContainer("api", "api.raml", null, "/api/*");
+  private final ApikitMainFlowContainer otherApi = new ApikitMainFlowContainer("other", "other.raml", null, "/other/*");
+
+  @Test
+  public void containsTheIndexedTriplets() {
+    ResourceActionMimeTypeTriplet getPets = new ResourceActionMimeTypeTriplet(api, "/pets", "GET");
+    ResourceActionMimeTypeTriplet postPet = new ResourceActionMimeTypeTriplet(api, "/pets", "POST", "application/json");
+    ResourceActionMimeTypeTripletIndex index = ResourceActionMimeTypeTripletIndex.of(asList(getPets, postPet, getPets));
+
+    assertEquals(2, index.size());
+    assertSame(postPet, index.get(new ResourceActionMimeTypeTriplet(api, "/pets", "post", "application/json")));
+    assertTrue(index.contains(new ResourceActionMimeTypeTriplet(api, "/pets", "GET")));
+    assertFalse(index.contains(new ResourceActionMimeTypeTriplet(otherApi, "/pets", "GET")));
+    assertFalse(index.contains(new ResourceActionMimeTypeTriplet(api, "/pets", "POST")));
+    assertFalse(index.contains(new ResourceActionMimeTypeTriplet(api, "/pets", "GET", "application/json")));
+    assertFalse(index.contains(new ResourceActionMimeTypeTriplet(api, "/owners", "GET")));
+  }
+
+  @Test
+  public void missingTripletsKeepTheirOrder() {
+    ResourceActionMimeTypeTriplet getPets = new ResourceActionMimeTypeTriplet(api, "/pets", "GET");
+    ResourceActionMimeTypeTriplet getOwners = new ResourceActionMimeTypeTriplet(api, "/owners", "GET");
+    ResourceActionMimeTypeTriplet getVets = new ResourceActionMimeTypeTriplet(api, "/vets", "GET");
+    ResourceActionMimeTypeTripletIndex index = ResourceActionMimeTypeTripletIndex.of(singletonList(getPets));
+
+    assertEquals(asList(getVets, getOwners), index.getMissing(asList(getVets, getPets, getOwners)));
+  }
+
+  @Test
+  public void tripletsAreFoundByUriPrefix() {
+    List<ResourceActionMimeTypeTriplet> entries = new ArrayList<>();
+    for (String uri : asList("/pets/{id}", "/owners", "/pets", "/petshop", "/pets/{id}/toys", "/vets")) {
+      entries.add(new ResourceActionMimeTypeTriplet(api, uri, "GET"));
+      entries.add(new ResourceActionMimeTypeTriplet(otherApi, uri, "DELETE"));
+    }
+    ResourceActionMimeTypeTripletIndex index = ResourceActionMimeTypeTripletIndex.of(entries);
+
+    List<String> uris = new ArrayList<>();
+    for (ResourceActionMimeTypeTriplet entry : index.getByUriPrefix("/pets/")) {
+      uris.add(entry.getUri());
+    }
+    assertEquals(asList("/pets/{id}", "/pets/{id}", "/pets/{id}/toys", "/pets/{id}/toys"), uris);
+    assertEquals(8, index.getByUriPrefix("/pets").size());
+    assertEquals(12, index.getByUriPrefix("").size());
+    assertEquals(emptyList(), index.getByUriPrefix("/zoo"));
+  }
+
+  @Test
+  public void tripletsWithAndWithoutMimeTypeAreDifferent() {
+    ResourceActionMimeTypeTriplet withoutMimeType = new ResourceActionMimeTypeTriplet(api, "/pets", "GET");
+    ResourceActionMimeTypeTriplet withMimeType = new ResourceActionMimeTypeTriplet(api, "/pets", "GET", "application/json");
+
+    assertNotEquals(withoutMimeType, withMimeType);
+    assertNotEquals(withMimeType, withoutMimeType);
+    assertEquals(withoutMimeType.hashCode(), new ResourceActionMimeTypeTriplet(api, "/pets", "get").hashCode());
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit;
+
+import org.jdom2.Element;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleDomain;
+import org.mule.tools.apikit.model.RuntimeEdition;
+import org.mule.tools.apikit.model.ScaffolderContextBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ScaffolderSessionTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ScaffolderSession session;
+
+  @Before
+  public void setUp() {
+    session = new ScaffolderSession(ScaffolderContextBuilder.builder().withRuntimeEdition(RuntimeEdition.CE).build());
+  }
+
+  @Test
+  public void unchangedMuleConfigIsCopiedFromTheParsedOne() throws Exception {
+    Path file = copy("test-mule-config/leagues-flow-config.xml", "api.xml");
+
+    MuleConfig first = session.getMuleConfig(file);
+    Element root = first.getContentAsDocument().getRootElement();
+    root.addContent(new Element("flow", root.getNamespace()).setAttribute("name", "added"));
+    MuleConfig second = session.getMuleConfig(file);
+
+    assertNotSame(first, second);
+    assertEquals("api.xml", second.getName());
+    assertFalse(second.isContentLoaded());
+    assertEquals(root.getChildren().size() - 1, second.getContentAsDocument().getRootElement().getChildren().size());
+    assertEquals(first.getHttpListenerConfigs(), second.getHttpListenerConfigs());
+  }
+
+  @Test
+  public void changedMuleConfigIsParsedAgain() throws Exception {
+    Path file = copy("test-mule-config/leagues-flow-config.xml", "api.xml");
+    int flows = session.getMuleConfig(file).getFlows().size();
+
+    Files.write(file, new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+        .replace("<flow name=\"doorway\">", "<flow name=\"other\"/><flow name=\"doorway\">").getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(flows + 1, session.getMuleConfig(file).getFlows().size());
+  }
+
+  @Test
+  public void domainIsParsedOnlyWhenItChanges() throws Exception {
+    Path file = copy("custom-domain-4/mule-domain-config.xml", "mule-domain-config.xml");
+
+    MuleDomain first = session.getDomain(file);
+    assertSame(first, session.getDomain(file));
+
+    Files.write(file, new String(Files.readAllBytes(file), StandardCharsets.UTF_8).replace("8081", "8082")
+        .getBytes(StandardCharsets.UTF_8));
+    // same size, the modification time may not have changed within the resolution of the file system
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+    MuleDomain changed = session.getDomain(file);
+
+    assertNotSame(first, changed);
+    assertEquals("8082", changed.getHttpListenerConfigs().get(0).getPort());
+  }
+
+  @Test
+  public void touchedDomainIsNotParsedAgain() throws Exception {
+    Path file = copy("custom-domain-4/mule-domain-config.xml", "mule-domain-config.xml");
+
+    MuleDomain first = session.getDomain(file);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+
+    assertSame(first, session.getDomain(file));
+  }
+
+  @Test
+  public void apiIsParsedAgainWhenAFileItIncludesChanges() throws Exception {
+    Path common = folder.newFolder("common").toPath();
+    Path types = common.resolve("types.raml");
+    Files.write(types, "#%RAML 1.0 DataType\ntype: string\n".getBytes(StandardCharsets.UTF_8));
+    Path api = folder.newFolder("api").toPath().resolve("api.raml");
+    Files.write(api, ("#%RAML 1.0\ntitle: api\ntypes:\n  Name: !include ../common/types.raml\n/names:\n  get:\n")
+        .getBytes(StandardCharsets.UTF_8));
+
+    ApiSpecification first = session.getApi(api);
+    Files.setLastModifiedTime(types, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+    assertSame(first, session.getApi(api));
+
+    Files.write(types, "#%RAML 1.0 DataType\ntype: number\n".getBytes(StandardCharsets.UTF_8));
+    assertNotSame(first, session.getApi(api));
+  }
+
+  @Test
+  public void invalidatedSessionParsesAgain() throws Exception {
+    Path file = copy("custom-domain-4/mule-domain-config.xml", "mule-domain-config.xml");
+    MuleDomain first = session.getDomain(file);
+
+    session.invalidate();
+
+    assertNotSame(first, session.getDomain(file));
+    assertEquals(1, session.getDomain(file).getHttpListenerConfigs().size());
+  }
+
+  private Path copy(String resource, String name) throws Exception {
+    Path file = folder.getRoot().toPath().resolve(name);
+    Files.copy(Paths.get(getClass().getClassLoader().getResource(resource).toURI()), file);
+    return file;
+  }
+}
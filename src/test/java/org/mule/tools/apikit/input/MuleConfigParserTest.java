@@ -9,15 +9,23 @@ package org.mule.tools.apikit.input;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static junit.framework.Assert.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mule.tools.apikit.TestUtils.*;
 import static org.mule.tools.apikit.model.MuleConfigBuilder.fromDoc;
+import static org.mule.tools.apikit.model.MuleConfigBuilder.fromStream;
 
+import org.mule.tools.apikit.input.parsers.FlowsParser;
+import org.mule.tools.apikit.input.parsers.MuleConfigDocumentWalker;
+import org.mule.tools.apikit.input.parsers.MuleConfigElement;
+import org.mule.tools.apikit.input.parsers.MuleConfigElementExtractor;
+import org.mule.tools.apikit.misc.APIKitTools;
 import org.mule.tools.apikit.model.APIFactory;
 import org.mule.tools.apikit.model.ApikitMainFlowContainer;
+import org.mule.tools.apikit.model.Flow;
 import org.mule.tools.apikit.model.HttpListenerConfig;
 import org.mule.tools.apikit.model.MainFlow;
 import org.mule.tools.apikit.model.MuleConfig;
@@ -27,11 +35,15 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import org.jdom2.Document;
+import org.jdom2.Element;
 import org.jdom2.JDOMException;
+import org.jdom2.Namespace;
+import org.jdom2.filter.Filters;
 import org.junit.Test;
 
 public class MuleConfigParserTest {
@@ -89,6 +101,30 @@ public class MuleConfigParserTest {
     assertEquals(2, muleConfigParser.getIncludedApis().size());
   }
 
+  @Test
+  public void testParallelParsingMatchesSequentialParsing() throws Exception {
+    List<String> resources = asList("testGetEntries/leagues-flow-config.xml", "testGetEntries/leagues-without-flows.xml",
+                                    "testGetEntries/simple.xml");
+    List<MuleConfig> sequentialConfigs = new ArrayList<>();
+    List<MuleConfig> parallelConfigs = new ArrayList<>();
+    for (String resource : resources) {
+      sequentialConfigs.add(fromStream(getResourceAsStream(resource)));
+      parallelConfigs.add(fromStream(getResourceAsStream(resource)));
+    }
+
+    MuleConfigParser sequential = new MuleConfigParser(new APIFactory(emptyList()), "leagues.raml", sequentialConfigs);
+    MuleConfigParser parallel = new MuleConfigParser(new APIFactory(emptyList()), "leagues.raml", parallelConfigs, 4);
+
+    assertEquals(toStrings(sequential.getEntries()), toStrings(parallel.getEntries()));
+    assertEquals(sequential.getIncludedApis().stream().map(ApikitMainFlowContainer::getId).collect(toSet()),
+                 parallel.getIncludedApis().stream().map(ApikitMainFlowContainer::getId).collect(toSet()));
+    assertEquals(sequential.getApikitConfigs().size(), parallel.getApikitConfigs().size());
+  }
+
+  private static Set<String> toStrings(Set<ResourceActionMimeTypeTriplet> entries) {
+    return entries.stream().map(ResourceActionMimeTypeTriplet::toString).collect(toSet());
+  }
+
   @Test
   public void testSeparateConfigsOrders() throws Exception {
     String api = getResourceAsString("separate-config/simple.xml");
@@ -112,6 +148,74 @@ public class MuleConfigParserTest {
     assertEquals(1, muleConfigParser.getApikitConfigs().size());
   }
 
+  @Test
+  public void testConfigsAreParsedWithoutLoadingTheirContent() throws Exception {
+    List<MuleConfig> muleConfigList = asList(fromStream(getResourceAsStream("separate-config/simple.xml")),
+                                             fromStream(getResourceAsStream("separate-config/global.xml")));
+    MuleConfigParser muleConfigParser =
+        new MuleConfigParser(new APIFactory(emptyList()), "separate-config/simple.raml", muleConfigList);
+
+    assertEquals(2, muleConfigParser.getEntries().size());
+    assertEquals(1, muleConfigParser.getIncludedApis().size());
+    assertEquals(1, muleConfigParser.getApikitConfigs().size());
+    assertFalse(muleConfigList.get(0).isContentLoaded());
+    assertFalse(muleConfigList.get(1).isContentLoaded());
+  }
+
+  @Test
+  public void testDocumentIsWalkedOnceForEveryExtractor() throws Exception {
+    Document document = getDocumentFromStream(getResourceAsStream("scaffolder-router-within-try/simple.xml"));
+    List<Element> visited = new ArrayList<>();
+    MuleConfigElementExtractor<List<Element>> everyElement = new MuleConfigElementExtractor<List<Element>>() {
+
+      @Override
+      public void visit(Element element, int depth) {
+        visited.add(element);
+      }
+
+      @Override
+      public List<Element> getResult() {
+        return visited;
+      }
+    };
+    MuleConfigElementExtractor<List<Flow>> flows = new FlowsParser().newExtractor();
+
+    MuleConfigDocumentWalker.walk(document, everyElement, flows);
+
+    List<Element> descendants = new ArrayList<>();
+    Iterator<Element> iterator = document.getRootElement().getDescendants(Filters.element());
+    iterator.forEachRemaining(descendants::add);
+    assertEquals(descendants, everyElement.getResult());
+    assertEquals(1, flows.getResult().stream().filter(flow -> flow instanceof MainFlow).count());
+  }
+
+  @Test
+  public void testElementsAreMatchedByNamespaceWhateverTheirPrefix() {
+    String apikitNamespaceUri = APIKitTools.API_KIT_NAMESPACE.getNamespace().getURI();
+    Element router = new Element("router", Namespace.getNamespace("ak", apikitNamespaceUri));
+
+    assertTrue(MuleConfigElement.APIKIT_ROUTER.matches(router));
+    assertFalse(MuleConfigElement.APIKIT_CONFIG.matches(router));
+    assertFalse(MuleConfigElement.APIKIT_ROUTER.matches(new Element("router")));
+  }
+
+  @Test
+  public void testMainFlowIsFoundWhateverThePrefixOfTheApikitNamespace() throws Exception {
+    String api = getResourceAsString("scaffolder-with-choice-element/simple.xml").replace("apikit:", "ak:")
+        .replace("xmlns:apikit", "xmlns:ak");
+    String ramlPath = "scaffolder-with-choice-element/simple.raml";
+
+    List<MuleConfig> muleConfigList = asList(fromDoc(getDocumentFromStream(new ByteArrayInputStream(api.getBytes()))),
+                                             fromStream(new ByteArrayInputStream(api.getBytes())));
+    for (MuleConfig muleConfig : muleConfigList) {
+      assertEquals(1, muleConfig.getMainFlows().size());
+    }
+    MuleConfigParser muleConfigParser =
+        new MuleConfigParser(new APIFactory(emptyList()), ramlPath, singletonList(muleConfigList.get(1)));
+    assertEquals(1, muleConfigParser.getEntries().size());
+    assertEquals(1, muleConfigParser.getIncludedApis().size());
+  }
+
   @Test
   public void testScaffoldingFlowWithChoiceElememnt() throws Exception {
     String api = getResourceAsString("scaffolder-with-choice-element/simple.xml");
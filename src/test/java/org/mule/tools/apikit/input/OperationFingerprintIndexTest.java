@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.input;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.model.Resource;
+import org.mule.tools.apikit.model.ApikitMainFlowContainer;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleConfigBuilder;
+import org.mule.tools.apikit.model.ResourceActionMimeTypeTriplet;
+import org.mule.tools.apikit.output.GenerationModel;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OperationFingerprintIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void storedIndexIsLoadedBack() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("fingerprints.properties");
+    List<MuleConfig> muleConfigs = singletonList(muleConfig("api.xml"));
+    OperationFingerprintIndex index = OperationFingerprintIndex.of(entries(model("get", "/pets", "{\"id\": 1}")), muleConfigs);
+    index.store(file);
+
+    OperationFingerprintIndex loaded = OperationFingerprintIndex.load(file);
+    assertTrue(loaded.hasSameOperations(index));
+    assertTrue(loaded.hasSameMuleConfigs(index));
+  }
+
+  @Test
+  public void changedExampleChangesTheFingerprint() {
+    OperationFingerprintIndex index =
+        OperationFingerprintIndex.of(entries(model("get", "/pets", "{\"id\": 1}")), Collections.emptyList());
+
+    assertTrue(index.isUnchanged(model("get", "/pets", "{\"id\": 1}")));
+    assertFalse(index.isUnchanged(model("get", "/pets", "{\"id\": 2}")));
+    assertFalse(index.isUnchanged(model("post", "/pets", "{\"id\": 1}")));
+    assertFalse(index.isUnchanged(model("other-api.raml", "get", "/pets", "{\"id\": 1}")));
+  }
+
+  @Test
+  public void editedMuleConfigsAreDetected() {
+    MuleConfig muleConfig = muleConfig("api.xml");
+    OperationFingerprintIndex before = OperationFingerprintIndex.of(Collections.emptyMap(), singletonList(muleConfig));
+    muleConfig.getContentAsDocument().getRootElement().addContent(new Element("flow"));
+    OperationFingerprintIndex after = OperationFingerprintIndex.of(Collections.emptyMap(), singletonList(muleConfig));
+
+    assertFalse(after.hasSameMuleConfigs(before));
+  }
+
+  @Test
+  public void lazilyReadMuleConfigsAreNotLoaded() throws Exception {
+    MuleConfig generated = muleConfig("api.xml");
+    OperationFingerprintIndex index = OperationFingerprintIndex.of(Collections.emptyMap(), singletonList(generated));
+    MuleConfig readBack = MuleConfigBuilder.fromStream(generated.getContent());
+    readBack.setName("api.xml");
+
+    assertTrue(OperationFingerprintIndex.of(Collections.emptyMap(), singletonList(readBack)).hasSameMuleConfigs(index));
+    assertFalse(readBack.isContentLoaded());
+  }
+
+  @Test
+  public void missingIndexIsEmpty() {
+    OperationFingerprintIndex index = OperationFingerprintIndex.load(folder.getRoot().toPath().resolve("missing.properties"));
+    assertTrue(index.hasSameOperations(OperationFingerprintIndex.of(Collections.emptyMap(), Collections.emptyList())));
+    assertFalse(index.hasSameMuleConfigs(index));
+  }
+
+  private static Map<ResourceActionMimeTypeTriplet, GenerationModel> entries(GenerationModel... models) {
+    Map<ResourceActionMimeTypeTriplet, GenerationModel> entries = new HashMap<>();
+    for (GenerationModel model : models) {
+      entries.put(new ResourceActionMimeTypeTriplet(model.getApi(), model.getResource().getResolvedUri(null),
+                                                    model.getVerb()),
+                  model);
+    }
+    return entries;
+  }
+
+  private static GenerationModel model(String verb, String uri, String example) {
+    return model("api.raml", verb, uri, example);
+  }
+
+  private static GenerationModel model(String apiFilePath, String verb, String uri, String example) {
+    ApikitMainFlowContainer api = mock(ApikitMainFlowContainer.class);
+    when(api.getApiFilePath()).thenReturn(apiFilePath);
+    Resource resource = mock(Resource.class);
+    when(resource.getResolvedUri(null)).thenReturn(uri);
+    GenerationModel model = mock(GenerationModel.class);
+    when(model.getApi()).thenReturn(api);
+    when(model.getVerb()).thenReturn(verb);
+    when(model.getResource()).thenReturn(resource);
+    when(model.getUriParameters()).thenReturn(Collections.emptyList());
+    when(model.getExampleWrapper()).thenReturn(example);
+    return model;
+  }
+
+  private static MuleConfig muleConfig(String name) {
+    MuleConfig muleConfig = MuleConfigBuilder.fromDoc(new Document(new Element("mule")));
+    muleConfig.setName(name);
+    return muleConfig;
+  }
+}
@@ -10,6 +10,11 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Predicate;
 import org.junit.Test;
 
+import org.mule.apikit.model.Action;
+import org.mule.apikit.model.ActionType;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.MimeType;
+import org.mule.apikit.model.Resource;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.parser.service.ParserService;
 import org.mule.parser.service.result.ParseResult;
@@ -19,12 +24,17 @@ import org.mule.tools.apikit.output.GenerationModel;
 
 import java.net.URL;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import static junit.framework.Assert.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mule.tools.apikit.TestUtils.getResourceAsUrl;
 
 public class RAMLFilesParserTest {
@@ -101,4 +111,55 @@ public class RAMLFilesParserTest {
     assertEquals("/", triplet2.getApi().getHttpListenerConfig().getBasePath());
     assertEquals("petstore-httpListenerConfig", triplet2.getApi().getHttpListenerConfig().getName());
   }
+
+  @Test
+  public void parallelTraversalMatchesSequentialTraversal() {
+    Map<String, Resource> resources = new LinkedHashMap<>();
+    for (int i = 0; i < 10; i++) {
+      Resource resource = mockResource("/resource" + i);
+      resources.put("/resource" + i, resource);
+      for (int j = 0; j < 5; j++) {
+        Resource child = mockResource("/resource" + i + "/child" + j);
+        resource.getResources().put("/child" + j, child);
+        child.getResources().put("/{id}", mockResource("/resource" + i + "/child" + j + "/{id}"));
+      }
+    }
+    ApiSpecification api = mock(ApiSpecification.class);
+    when(api.getLocation()).thenReturn("api.raml");
+    when(api.getResources()).thenReturn(resources);
+
+    RAMLFilesParser sequential = new RAMLFilesParser(new APIFactory(Collections.emptyList()), api);
+    RAMLFilesParser parallel = new RAMLFilesParser(new APIFactory(Collections.emptyList()), api, 4);
+
+    // every resource has a GET and a POST with two mime types
+    assertEquals(110 * 3, sequential.getEntries().size());
+    assertEquals(sequential.getEntries().keySet(), parallel.getEntries().keySet());
+    assertEquals(1, parallel.getApisAsList().size());
+    assertTrue(parallel.getEntries().containsKey(new ResourceActionMimeTypeTriplet(parallel.getApisAsList().get(0),
+                                                                                   "/api/resource9/child4/{id}", "POST",
+                                                                                   "application/json")));
+  }
+
+  private static Resource mockResource(String uri) {
+    Action get = mock(Action.class);
+    when(get.getType()).thenReturn(ActionType.GET);
+    Action post = mock(Action.class);
+    when(post.getType()).thenReturn(ActionType.POST);
+    Map<String, MimeType> body = new LinkedHashMap<>();
+    for (String type : new String[] {"application/json", "text/xml"}) {
+      MimeType mimeType = mock(MimeType.class);
+      when(mimeType.getType()).thenReturn(type);
+      body.put(type, mimeType);
+    }
+    when(post.getBody()).thenReturn(body);
+    Map<ActionType, Action> actions = new EnumMap<>(ActionType.class);
+    actions.put(ActionType.GET, get);
+    actions.put(ActionType.POST, post);
+
+    Resource resource = mock(Resource.class);
+    when(resource.getResolvedUri(any())).thenReturn(uri);
+    when(resource.getActions()).thenReturn(actions);
+    when(resource.getResources()).thenReturn(new LinkedHashMap<>());
+    return resource;
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DataWeaveExampleCacheTest {
+
+  private static final String EXAMPLE = "{\"name\": \"John\"}";
+  private static final String EXPRESSION = "%dw 2.0\noutput application/json\n---\n{\n  name: \"John\"\n}\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void hitsAndMissesAreCounted() {
+    DataWeaveExampleCache cache = new DataWeaveExampleCache(10);
+    assertNull(cache.get(EXAMPLE));
+    cache.put(EXAMPLE, EXPRESSION);
+    assertEquals(EXPRESSION, cache.get(EXAMPLE));
+    assertEquals(EXPRESSION, cache.get(EXAMPLE));
+
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void leastRecentlyUsedExpressionIsEvicted() {
+    DataWeaveExampleCache cache = new DataWeaveExampleCache(2);
+    cache.put("first", "1");
+    cache.put("second", "2");
+    cache.get("first");
+    cache.put("third", "3");
+
+    assertEquals(2, cache.size());
+    assertEquals("1", cache.get("first"));
+    assertEquals("3", cache.get("third"));
+    assertNull(cache.get("second"));
+  }
+
+  @Test
+  public void expressionsArePersistedBetweenInstances() throws Exception {
+    Path directory = folder.newFolder("examples").toPath();
+    new DataWeaveExampleCache(10, directory).put(EXAMPLE, EXPRESSION);
+
+    DataWeaveExampleCache cache = new DataWeaveExampleCache(10, directory);
+    assertEquals(EXPRESSION, cache.get(EXAMPLE));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void maximumSizeMustBePositive() {
+    new DataWeaveExampleCache(0);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExampleParsersTest {
+
+  @Test
+  public void unterminatedValuesAreNotValidJSON() {
+    assertFalse(ExampleParsers.isValidJSON("\"Hello"));
+    assertFalse(ExampleParsers.isValidJSON("{ \"game\" : \"League Of Legends }"));
+    assertFalse(ExampleParsers.isValidJSON("[ 1, 2"));
+  }
+
+  @Test
+  public void onlyTheFirstValueMustBeValidJSON() {
+    assertTrue(ExampleParsers.isValidJSON("{ \"id\" : 1 } trailing"));
+    assertTrue(ExampleParsers.isValidJSON(""));
+  }
+
+  @Test
+  public void singleJSONValueHasNothingAfterIt() {
+    assertTrue(ExampleParsers.isSingleJSONValue(" { \"id\" : [1, 2] } "));
+    assertTrue(ExampleParsers.isSingleJSONValue("\"Hello\""));
+    assertFalse(ExampleParsers.isSingleJSONValue("{ \"id\" : 1 } { \"id\" : 2 }"));
+    assertFalse(ExampleParsers.isSingleJSONValue(""));
+  }
+
+  @Test
+  public void yamlIsWrittenAsJSON() throws Exception {
+    assertEquals("{\"id\":1,\"tags\":[\"a\",\"b\"]}",
+                 ExampleParsers.writeAsJSON(ExampleParsers.loadYaml("id: 1\ntags:\n  - a\n  - b")));
+    assertNull(ExampleParsers.loadYaml(""));
+  }
+
+  @Test
+  public void parsersCanBeUsedFromManyThreads() {
+    List<Boolean> results = ParallelUtils.map(Arrays.asList(new Integer[64]), ignored -> {
+      Object yaml = ExampleParsers.loadYaml("id: 1");
+      return ExampleParsers.isSingleJSONValue("{\"id\": 1}") && yaml != null;
+    }, 8);
+
+    assertFalse(results.contains(false));
+  }
+}
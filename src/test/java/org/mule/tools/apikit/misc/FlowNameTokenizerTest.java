@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FlowNameTokenizerTest {
+
+  private static final List<String> CONFIGS = Collections.singletonList("api-config");
+
+  private final FlowNameTokenizer tokenizer = new FlowNameTokenizer();
+
+  @Test
+  public void testFlowNameWithEveryPart() {
+    assertTrue(tokenizer.tokenize("get:/pets/{petId}:application/json:api-config"));
+    assertEquals("get", tokenizer.getAction());
+    assertEquals("/pets/{petId}", tokenizer.getResource());
+    assertEquals("application/json", tokenizer.getMimeType(CONFIGS));
+    assertEquals("api-config", tokenizer.getConfig(CONFIGS));
+  }
+
+  @Test
+  public void testSingleQualifierIsConfigOnlyIfItExists() {
+    assertTrue(tokenizer.tokenize("get:/pets:api-config"));
+    assertNull(tokenizer.getMimeType(CONFIGS));
+    assertEquals("api-config", tokenizer.getConfig(CONFIGS));
+
+    assertTrue(tokenizer.tokenize("get:/pets:application/json"));
+    assertEquals("application/json", tokenizer.getMimeType(CONFIGS));
+    assertNull(tokenizer.getConfig(CONFIGS));
+  }
+
+  @Test
+  public void testNonApikitFlowNamesAreRejected() {
+    for (String flowName : Arrays.asList(null, "", "main", "get", "get:", ":/pets", "get:pets", "get-pets:api-config")) {
+      assertFalse(flowName, tokenizer.tokenize(flowName));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPartsOfRejectedFlowNameCannotBeRead() {
+    tokenizer.tokenize("get:/pets");
+    tokenizer.tokenize("main");
+    tokenizer.getAction();
+  }
+
+  @Test
+  public void testSameResultAsFlowNameMatcher() {
+    List<String> flowNames = Arrays.asList("get:/", "get:/pets", "get:/pets:", "get:/pets::", "get:/pets::api-config",
+                                           "post:/pets:application/json", "post:/pets:application/json:",
+                                           "post:/pets:application/json:api-config:extra", "get:/pets%3Aclone:api-config",
+                                           "get:\\pets", "get:/pets/{id}:text/xml:other-config", "get :/pets", "a:b:/pets");
+    for (Collection<String> configs : Arrays.asList(CONFIGS, Collections.<String>emptyList(), null)) {
+      for (String flowName : flowNames) {
+        Matcher matcher;
+        try {
+          matcher = FlowNameUtils.getMatcher(flowName);
+        } catch (IllegalArgumentException e) {
+          assertFalse(flowName, tokenizer.tokenize(flowName));
+          continue;
+        }
+        assertTrue(flowName, tokenizer.tokenize(flowName));
+        assertEquals(flowName, FlowNameUtils.getAction(matcher), tokenizer.getAction());
+        assertEquals(flowName, FlowNameUtils.getResource(matcher), tokenizer.getResource());
+        assertEquals(flowName, FlowNameUtils.getMimeType(matcher, configs).orElse(null), tokenizer.getMimeType(configs));
+        assertEquals(flowName, FlowNameUtils.getConfig(matcher, configs).orElse(null), tokenizer.getConfig(configs));
+      }
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class FlowNameUtilsTest {
+
+  @Test
+  public void testEncodeAndDecode() {
+    assertEquals("get:\\pets\\(petId):application\\json", FlowNameUtils.encode("get:/pets/{petId}:application/json"));
+    assertEquals("get:/pets/{petId}:application/json", FlowNameUtils.decode("get:\\pets\\(petId):application\\json"));
+    assertEquals("\\\u00e1\\(\u00fc)", FlowNameUtils.encode("/\u00e1/{\u00fc}"));
+  }
+
+  @Test
+  public void testNothingToTransformReturnsTheSameValue() {
+    String flowName = "get:pets:api-config";
+    assertSame(flowName, FlowNameUtils.encode(flowName));
+    assertSame(flowName, FlowNameUtils.decode(flowName));
+
+    String resource = "pets";
+    assertSame(resource, FlowNameUtils.encodeColons(resource));
+    assertSame(resource, FlowNameUtils.encodeResource(resource));
+  }
+
+  @Test
+  public void testEncodeResourceEncodesColonsAndSpecialCharacters() {
+    String resource = "/pets/{petId}:clone/a:b";
+    assertEquals(FlowNameUtils.encode(FlowNameUtils.encodeColons(resource)), FlowNameUtils.encodeResource(resource));
+    assertEquals("\\pets\\(petId)%3Aclone\\a%3Ab", FlowNameUtils.encodeResource(resource));
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.misc;
+
+import org.junit.Test;
+import org.mule.tools.apikit.misc.ScaffoldingMetricsRecorder.Measurement;
+import org.mule.tools.apikit.model.ScaffoldingMetrics;
+import org.mule.tools.apikit.model.ScaffoldingMetrics.PhaseMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.API_PARSING;
+import static org.mule.tools.apikit.model.ScaffoldingMetrics.Phase.FLOW_RENDERING;
+
+public class ScaffoldingMetricsRecorderTest {
+
+  @Test
+  public void disabledRecorderHasNoMetrics() {
+    ScaffoldingMetricsRecorder recorder = ScaffoldingMetricsRecorder.disabled();
+    assertFalse(recorder.isEnabled());
+    assertEquals("result", recorder.record(API_PARSING, () -> "result"));
+    assertNull(recorder.getMetrics());
+  }
+
+  @Test
+  public void invocationsAreAccumulatedPerPhase() {
+    ScaffoldingMetricsRecorder recorder = ScaffoldingMetricsRecorder.enabled();
+    recorder.record(API_PARSING, () -> allocate(1024));
+    for (int i = 0; i < 3; i++) {
+      try (Measurement ignored = recorder.start(FLOW_RENDERING)) {
+        allocate(1024);
+      }
+    }
+
+    ScaffoldingMetrics metrics = recorder.getMetrics();
+    PhaseMetrics apiParsing = metrics.getPhase(API_PARSING);
+    PhaseMetrics flowRendering = metrics.getPhase(FLOW_RENDERING);
+    assertEquals(1, apiParsing.getInvocations());
+    assertEquals(3, flowRendering.getInvocations());
+    assertTrue(flowRendering.getWallTimeNanos() > 0);
+    assertTrue(flowRendering.getAllocatedBytes() == -1 || flowRendering.getAllocatedBytes() >= 3 * 1024);
+  }
+
+  @Test
+  public void phasesNotExecutedAreEmpty() {
+    PhaseMetrics apiParsing = ScaffoldingMetricsRecorder.enabled().getMetrics().getPhase(API_PARSING);
+    assertEquals(0, apiParsing.getInvocations());
+    assertEquals(0, apiParsing.getWallTimeNanos());
+  }
+
+  @Test
+  public void measurementsFromSeveralThreadsAreAccumulated() throws Exception {
+    ScaffoldingMetricsRecorder recorder = ScaffoldingMetricsRecorder.enabled();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < 100; j++) {
+          recorder.record(FLOW_RENDERING, () -> allocate(16));
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(400, recorder.getMetrics().getPhase(FLOW_RENDERING).getInvocations());
+  }
+
+  private static byte[] allocate(int size) {
+    return new byte[size];
+  }
+}
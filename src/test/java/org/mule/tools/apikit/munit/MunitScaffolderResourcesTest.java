@@ -6,15 +6,29 @@
  */
 package org.mule.tools.apikit.munit;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserMode;
+import org.mule.parser.service.ParserService;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.tools.apikit.MunitScaffolder;
+import org.mule.tools.apikit.TestUtils;
 import org.mule.tools.apikit.misc.APIKitTools;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleConfigBuilder;
+import org.mule.tools.apikit.model.MunitScaffolderContext;
+import org.mule.tools.apikit.model.RuntimeEdition;
+import org.mule.tools.apikit.model.ScaffolderContextBuilder;
 import org.mule.tools.apikit.model.ScaffolderResource;
+import org.mule.tools.apikit.model.ScaffoldingConfiguration;
 import org.mule.tools.apikit.model.ScaffoldingResult;
 
 import java.util.List;
 
 import static junit.framework.TestCase.*;
+import static org.mule.tools.apikit.MunitScaffolder.MULTIPLE_APIS_ERROR;
 
 public class MunitScaffolderResourcesTest extends AbstractMunitScaffolderTest {
 
@@ -75,6 +89,39 @@ public class MunitScaffolderResourcesTest extends AbstractMunitScaffolderTest {
     assertEquals(expectedXmlResponse, APIKitTools.readContents(xmlResponseResource.getContent()));
   }
 
+  @Test
+  public void testResourceContentIsRenderedOnEveryRead() throws Exception {
+    ScaffoldingResult result = simpleGenerationWithResource("simple-post-body");
+    ScaffolderResource requestResource = getResourceByName(result.getGeneratedResources(), "post_albums_application_json.json");
+
+    String expectedContent = "{\"message\":\"This is an album json post\"}";
+    assertEquals(expectedContent, APIKitTools.readContents(requestResource.getContent()));
+    assertEquals(expectedContent, APIKitTools.readContents(requestResource.getContent()));
+  }
+
+  @Test
+  public void testSeveralApisAreRejected() throws Exception {
+    ParseResult example = new ParserService().parse(ApiReference.create("scaffolder/example.yaml"), ParserMode.RAML);
+    ParseResult simplePostBody =
+        new ParserService().parse(ApiReference.create("scaffolder/simple-post-body.yaml"), ParserMode.RAML);
+    assertTrue(example.success());
+    assertTrue(simplePostBody.success());
+    String muleConfigContent = TestUtils.getResourceAsString("scaffolder/default-mule-config.xml")
+        .replace("${apikitMainFlowName}", "example-main").replace("${apiLocation}", "scaffolder/example.yaml");
+    MuleConfig muleConfig = MuleConfigBuilder.fromStream(IOUtils.toInputStream(muleConfigContent));
+    MunitScaffolderContext context = (MunitScaffolderContext) ScaffolderContextBuilder.builder()
+        .withRuntimeEdition(RuntimeEdition.EE).shouldCreateMunitResources(true).withMunitSuiteName("example.xml").build();
+
+    ScaffoldingResult result = new MunitScaffolder(context).run(ScaffoldingConfiguration.builder()
+        .withApis(Lists.newArrayList(example.get(), simplePostBody.get()))
+        .withMuleConfigurations(Lists.newArrayList(muleConfig)).build());
+
+    assertFalse(result.isSuccess());
+    assertEquals(MULTIPLE_APIS_ERROR, result.getErrors().get(0).getReason());
+    assertTrue(result.getGeneratedConfigs().isEmpty());
+    assertTrue(result.getGeneratedResources().isEmpty());
+  }
+
   private ScaffolderResource getResourceByName(List<ScaffolderResource> resources, String name) {
     return resources.stream().filter(resource -> resource.getName().equals(name)).findFirst().orElse(null);
   }
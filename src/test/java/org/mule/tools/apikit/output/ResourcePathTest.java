@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.output;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+public class ResourcePathTest {
+
+  @Test
+  public void uriIsSplitIntoSegments() {
+    ResourcePath path = ResourcePath.parse("/api/pets/{petId}/toys");
+
+    assertEquals(asList("api", "pets", "{petId}", "toys"), path.getSegments());
+    assertEquals(asList("pets", "{petId}", "toys"), path.getRelativeSegments());
+    assertEquals("/pets/{petId}/toys", path.getRelativeUri());
+  }
+
+  @Test
+  public void uriParametersKeepTheirSegment() {
+    ResourcePath path = ResourcePath.parse("/owners/{ownerId}/files/{name}.{extension}");
+
+    assertEquals(asList("ownerId", "name", "extension"), path.getParameterNames());
+    assertEquals(1, path.getParameters().get(0).getSegment());
+    assertEquals(3, path.getParameters().get(1).getSegment());
+    assertEquals(3, path.getParameters().get(2).getSegment());
+  }
+
+  @Test
+  public void rootHasNoSegments() {
+    ResourcePath path = ResourcePath.parse("/");
+
+    assertEquals(emptyList(), path.getSegments());
+    assertEquals(emptyList(), path.getParameters());
+    assertEquals("/", path.getRelativeUri());
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.apikit.output;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.tools.apikit.model.MuleConfig;
+import org.mule.tools.apikit.model.MuleConfigBuilder;
+import org.mule.tools.apikit.model.ScaffolderResource;
+import org.mule.tools.apikit.model.ScaffolderResult;
+
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeNotNull;
+
+public class ScaffoldingResultWriterTest {
+
+  private static final String CONFIG_PATH = "src/test/resources/test-mule-config/api.xml";
+  private static final FileTime LAST_RUN = FileTime.fromMillis(0);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void configsAndResourcesAreWritten() throws Exception {
+    Path configs = folder.newFolder("mule").toPath();
+    Path resources = folder.newFolder("resources").toPath();
+    MuleConfig config = readConfig();
+
+    List<Path> written = new ScaffoldingResultWriter(2).write(result(config, "{}"), configs, resources);
+
+    assertEquals(asList(configs.resolve("api.xml"), resources.resolve("requests").resolve("request.json")), written);
+    assertArrayEquals(IOUtils.toByteArray(config.getContent()), Files.readAllBytes(configs.resolve("api.xml")));
+    assertEquals("{}", new String(Files.readAllBytes(written.get(1)), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void unchangedFilesAreNotRewritten() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    ScaffoldingResultWriter writer = new ScaffoldingResultWriter(2);
+    writer.write(result(readConfig(), "{}"), directory, directory);
+    Path config = directory.resolve("api.xml");
+    Path resource = directory.resolve("requests").resolve("request.json");
+    Files.setLastModifiedTime(config, LAST_RUN);
+    Files.setLastModifiedTime(resource, LAST_RUN);
+
+    assertEquals(emptyList(), writer.write(result(readConfig(), "{}"), directory, directory));
+    assertEquals(singletonList(resource), writer.write(result(readConfig(), "{\"id\": 1}"), directory, directory));
+    assertEquals(LAST_RUN, Files.getLastModifiedTime(config));
+    assertEquals("{\"id\": 1}", new String(Files.readAllBytes(resource), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void permissionsAreNotRestricted() throws Exception {
+    Path directory = folder.getRoot().toPath();
+    assumeNotNull(Files.getFileAttributeView(directory, PosixFileAttributeView.class));
+    Set<PosixFilePermission> defaultPermissions = Files.getPosixFilePermissions(Files.createFile(directory.resolve("default")));
+    Path config = directory.resolve("api.xml");
+    Path resource = directory.resolve("requests").resolve("request.json");
+    Files.createDirectories(resource.getParent());
+    Files.setPosixFilePermissions(Files.createFile(resource), PosixFilePermissions.fromString("rwxrw-r--"));
+
+    new ScaffoldingResultWriter(2).write(result(readConfig(), "{}"), directory, directory);
+
+    assertEquals(defaultPermissions, Files.getPosixFilePermissions(config));
+    assertEquals(PosixFilePermissions.fromString("rwxrw-r--"), Files.getPosixFilePermissions(resource));
+  }
+
+  private static MuleConfig readConfig() throws Exception {
+    MuleConfig config = MuleConfigBuilder.fromStream(new FileInputStream(CONFIG_PATH));
+    config.setName("api.xml");
+    return config;
+  }
+
+  private static ScaffolderResult result(MuleConfig config, String request) {
+    ScaffolderResource resource =
+        new ScaffolderResource("requests", "request.json", IOUtils.toInputStream(request, StandardCharsets.UTF_8));
+    return ScaffolderResult.builder()
+        .withGeneratedConfigs(singletonList(config))
+        .withGeneratedResources(singletonList(resource))
+        .build();
+  }
+}